@@ -20,12 +20,19 @@
 
 package top.theillusivec4.curios.api;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -36,6 +43,10 @@ import top.theillusivec4.curios.CuriosConstants;
 
 /**
  * A record used for data component representation of curio attribute modifiers
+ * <br>
+ * Entries are indexed by slot identifier with their attributes resolved the first time they are
+ * queried through {@link CurioAttributeModifiers#getModifiers(String)}. The index is held in a
+ * cache keyed by component identity and is reused for the lifetime of the component.
  *
  * @param modifiers     The attribute modifiers
  * @param showInTooltip Whether to show in tooltips
@@ -43,6 +54,11 @@ import top.theillusivec4.curios.CuriosConstants;
  */
 public record CurioAttributeModifiers(List<Entry> modifiers, boolean showInTooltip) {
   public static final CurioAttributeModifiers EMPTY = new CurioAttributeModifiers(List.of(), true);
+  // Weak keys are compared by identity, so equal components from different stacks are indexed
+  // separately and each index is released along with its component
+  private static final LoadingCache<CurioAttributeModifiers, Map<String, List<ResolvedEntry>>>
+      INDEX = CacheBuilder.newBuilder().weakKeys()
+      .build(CacheLoader.from(CurioAttributeModifiers::buildIndex));
   private static final Codec<CurioAttributeModifiers> FULL_CODEC = RecordCodecBuilder.create(
       p_337947_ -> p_337947_.group(
               Entry.CODEC.listOf().fieldOf("modifiers").forGetter(CurioAttributeModifiers::modifiers),
@@ -71,6 +87,19 @@ public record CurioAttributeModifiers(List<Entry> modifiers, boolean showInToolt
     return new CurioAttributeModifiers.Builder();
   }
 
+  /**
+   * Creates a builder that starts with the entries and tooltip visibility of this component, for
+   * appending several entries at once.
+   *
+   * @return A new {@link Builder}
+   */
+  public CurioAttributeModifiers.Builder toBuilder() {
+    CurioAttributeModifiers.Builder builder = new CurioAttributeModifiers.Builder();
+    builder.entries.addAll(this.modifiers);
+    builder.showInTooltip = this.showInTooltip;
+    return builder;
+  }
+
   public CurioAttributeModifiers withModifierAdded(ResourceLocation attribute,
                                                    AttributeModifier attributeModifier,
                                                    String slot) {
@@ -90,16 +119,52 @@ public record CurioAttributeModifiers(List<Entry> modifiers, boolean showInToolt
 
   public void forEach(String slot, BiConsumer<ResourceLocation, AttributeModifier> consumer) {
 
-    for (Entry attributemodifiers$entry : this.modifiers) {
+    for (ResolvedEntry entry : this.getModifiers(slot)) {
+      consumer.accept(entry.id, entry.modifier);
+    }
+  }
 
-      if (attributemodifiers$entry.slot.equals(slot)) {
-        consumer.accept(attributemodifiers$entry.attribute, attributemodifiers$entry.modifier);
+  /**
+   * Gets the entries for a slot identifier, in order, with their attributes resolved.
+   * <br>
+   * Entries with the {@link CuriosConstants#MOD_ID} namespace resolve to a {@link SlotAttribute},
+   * and entries with an unknown attribute resolve to null.
+   *
+   * @param slot The slot identifier
+   * @return A list of {@link ResolvedEntry}, or an empty list if there are none for the slot
+   */
+  public List<ResolvedEntry> getModifiers(String slot) {
+
+    if (this.modifiers.isEmpty()) {
+      return List.of();
+    }
+    return INDEX.getUnchecked(this).getOrDefault(slot, List.of());
+  }
+
+  private static Map<String, List<ResolvedEntry>> buildIndex(
+      CurioAttributeModifiers attributeModifiers) {
+    Map<String, ImmutableList.Builder<ResolvedEntry>> builders = new HashMap<>();
+
+    for (Entry entry : attributeModifiers.modifiers) {
+      ResourceLocation rl = entry.attribute;
+      Holder<Attribute> attribute;
+
+      if (rl.getNamespace().equals(CuriosConstants.MOD_ID)) {
+        attribute = SlotAttribute.getOrCreate(rl.getPath());
+      } else {
+        attribute = BuiltInRegistries.ATTRIBUTE.getHolder(rl).orElse(null);
       }
+      builders.computeIfAbsent(entry.slot, k -> ImmutableList.builder())
+          .add(new ResolvedEntry(rl, attribute, entry.modifier));
     }
+    Map<String, List<ResolvedEntry>> result = new HashMap<>();
+    builders.forEach((slot, builder) -> result.put(slot, builder.build()));
+    return result;
   }
 
   public static class Builder {
     private final ImmutableList.Builder<Entry> entries = ImmutableList.builder();
+    private boolean showInTooltip = true;
 
     Builder() {
     }
@@ -117,11 +182,34 @@ public record CurioAttributeModifiers(List<Entry> modifiers, boolean showInToolt
       return this;
     }
 
+    public Builder add(ResourceLocation attribute, AttributeModifier attributeModifier,
+                       String slot) {
+      this.entries.add(new Entry(attribute, attributeModifier, slot));
+      return this;
+    }
+
+    public Builder showInTooltip(boolean showInTooltip) {
+      this.showInTooltip = showInTooltip;
+      return this;
+    }
+
     public CurioAttributeModifiers build() {
-      return new CurioAttributeModifiers(this.entries.build(), true);
+      return new CurioAttributeModifiers(this.entries.build(), this.showInTooltip);
     }
   }
 
+  /**
+   * An entry with its attribute resolved, see {@link CurioAttributeModifiers#getModifiers(String)}
+   *
+   * @param id        The identifier of the attribute
+   * @param attribute The resolved attribute, or null if it is unknown
+   * @param modifier  The attribute modifier
+   */
+  public record ResolvedEntry(ResourceLocation id, @Nullable Holder<Attribute> attribute,
+                              AttributeModifier modifier) {
+
+  }
+
   public record Entry(ResourceLocation attribute, AttributeModifier modifier, String slot) {
     public static final Codec<Entry> CODEC = RecordCodecBuilder.create(
         instance -> instance.group(
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.api;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import top.theillusivec4.curios.CuriosConstants;
+
+/**
+ * Item tags with special handling by Curios
+ */
+public final class CuriosTags {
+
+  /**
+   * Items in this tag are not ticked while equipped in a curio slot, skipping the curio tick, the
+   * vanilla inventory tick, and the client-side curio animation. Intended for passive curios that
+   * only provide attribute modifiers or other non-ticking behavior.
+   * <br>
+   * Only supported on NeoForge, other loaders tick these items as usual.
+   */
+  public static final TagKey<Item> NO_TICK =
+      TagKey.create(Registries.ITEM, new ResourceLocation(CuriosConstants.MOD_ID, "no_tick"));
+
+  /**
+   * Items in this tag are always checked on demand for making piglins neutral and walking on powder
+   * snow instead of using the cached summary of the equipped curios. Intended for items whose
+   * answers depend on the wearer or other context that can change without the stack changing.
+   */
+  public static final TagKey<Item> DYNAMIC_ABILITIES = TagKey.create(Registries.ITEM,
+      new ResourceLocation(CuriosConstants.MOD_ID, "dynamic_abilities"));
+}
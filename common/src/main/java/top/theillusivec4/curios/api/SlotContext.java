@@ -31,9 +31,40 @@ import org.jetbrains.annotations.ApiStatus;
  * @param index      The index of the slot
  * @param cosmetic   True if the slot is cosmetic, false if the slot is functional
  * @param visible    True if the slot can render its item on the wearer, false if not
+ * @param slotId     The interned id of the slot type, or -1 if the identifier has not been
+ *                   interned, see {@link SlotIds}. This must match the identifier, so prefer the
+ *                   constructors that resolve it.
  */
 public record SlotContext(String identifier, LivingEntity entity, int index, boolean cosmetic,
-                          boolean visible) {
+                          boolean visible, int slotId) {
+
+  /**
+   * Creates a slot context from a slot type identifier, resolving its interned id once.
+   *
+   * @param identifier The identifier of the slot type
+   * @param entity     The wearer or intended wearer of the slot type
+   * @param index      The index of the slot
+   * @param cosmetic   True if the slot is cosmetic, false if the slot is functional
+   * @param visible    True if the slot can render its item on the wearer, false if not
+   */
+  public SlotContext(String identifier, LivingEntity entity, int index, boolean cosmetic,
+                     boolean visible) {
+    this(identifier, entity, index, cosmetic, visible, SlotIds.findId(identifier));
+  }
+
+  /**
+   * Creates a slot context from an interned slot id.
+   *
+   * @param slotId   The id of the slot type, see {@link SlotIds}
+   * @param entity   The wearer or intended wearer of the slot type
+   * @param index    The index of the slot
+   * @param cosmetic True if the slot is cosmetic, false if the slot is functional
+   * @param visible  True if the slot can render its item on the wearer, false if not
+   */
+  public SlotContext(int slotId, LivingEntity entity, int index, boolean cosmetic,
+                     boolean visible) {
+    this(SlotIds.getIdentifier(slotId), entity, index, cosmetic, visible, slotId);
+  }
 
   @Deprecated(forRemoval = true)
   @ApiStatus.ScheduledForRemoval(inVersion = "1.21")
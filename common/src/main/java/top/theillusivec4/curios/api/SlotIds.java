@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.api;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+
+/**
+ * Interns slot type identifiers as dense integer ids for array-indexed lookups.
+ * <br>
+ * Ids are assigned when slot types are loaded and are never reassigned or removed for the rest of
+ * the session, so an id stays valid across reloads even if its slot type no longer exists. Ids are
+ * not stable between sessions and should never be saved.
+ */
+public final class SlotIds {
+
+  private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+  private static volatile String[] identifiers = new String[0];
+
+  /**
+   * Gets the id for a slot type identifier, assigning a new id if the identifier has not been
+   * interned yet.
+   *
+   * @param identifier The identifier of the slot type
+   * @return The id of the slot type
+   */
+  public static int getId(String identifier) {
+    Integer id = IDS.get(identifier);
+    return id != null ? id : intern(identifier);
+  }
+
+  /**
+   * Gets the id for a slot type identifier without assigning a new one.
+   *
+   * @param identifier The identifier of the slot type
+   * @return The id of the slot type, or -1 if the identifier has not been interned
+   */
+  public static int findId(String identifier) {
+    Integer id = identifier != null ? IDS.get(identifier) : null;
+    return id != null ? id : -1;
+  }
+
+  /**
+   * Gets the slot type identifier for an id.
+   *
+   * @param id The id of the slot type
+   * @return The identifier of the slot type, or null if the id has not been assigned
+   */
+  @Nullable
+  public static String getIdentifier(int id) {
+    String[] current = identifiers;
+    return id >= 0 && id < current.length ? current[id] : null;
+  }
+
+  /**
+   * @return The number of assigned ids, which is one more than the highest id
+   */
+  public static int size() {
+    return identifiers.length;
+  }
+
+  /**
+   * Interns all the given slot type identifiers, in iteration order.
+   *
+   * @param identifiers The identifiers of the slot types
+   */
+  public static void internAll(Collection<String> identifiers) {
+
+    for (String identifier : identifiers) {
+      getId(identifier);
+    }
+  }
+
+  private static synchronized int intern(String identifier) {
+    Integer id = IDS.get(identifier);
+
+    if (id != null) {
+      return id;
+    }
+    String[] current = identifiers;
+    String[] updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = identifier;
+    identifiers = updated;
+    IDS.put(identifier, current.length);
+    return current.length;
+  }
+}
@@ -68,6 +68,15 @@ public interface ISlotType extends Comparable<ISlotType> {
    */
   ICurio.DropRule getDropRule();
 
+  /**
+   * Only supported on NeoForge, other loaders tick the curios in every slot type every tick.
+   *
+   * @return The number of ticks between updates of the curios in this slot type
+   */
+  default int getTickInterval() {
+    return 1;
+  }
+
   /**
    * @return The set of {@link ResourceLocation} keyed to the validator predicates on this slot type
    */
@@ -67,6 +67,21 @@ public interface ICurio {
     curioTick(slotContext.identifier(), slotContext.index(), slotContext.entity());
   }
 
+  /**
+   * Determines if the ItemStack needs to be ticked while equipped. Returning false skips
+   * {@link ICurio#curioTick(SlotContext)}, the vanilla inventory tick, and the client-side
+   * {@link ICurio#curioAnimate(String, int, LivingEntity)} for the ItemStack.
+   * <br>
+   * This is only checked when the ItemStack is placed into a slot or tags are reloaded, not every
+   * tick. Only supported on NeoForge, other loaders always tick the ItemStack.
+   *
+   * @param slotContext Context about the slot that the ItemStack is in
+   * @return True to tick the ItemStack while equipped, false to skip ticking
+   */
+  default boolean canTick(SlotContext slotContext) {
+    return true;
+  }
+
   /**
    * Called when the ItemStack is equipped into a slot or its data changes.
    *
@@ -82,6 +82,23 @@ public interface ICurioItem {
     curioTick(slotContext.identifier(), slotContext.index(), slotContext.entity(), stack);
   }
 
+  /**
+   * Determines if the ItemStack needs to be ticked while equipped. Returning false skips
+   * {@link ICurioItem#curioTick(SlotContext, ItemStack)}, the vanilla inventory tick, and the
+   * client-side {@link ICurioItem#curioAnimate(String, int, LivingEntity, ItemStack)} for the
+   * ItemStack.
+   * <br>
+   * This is only checked when the ItemStack is placed into a slot or tags are reloaded, not every
+   * tick. Only supported on NeoForge, other loaders always tick the ItemStack.
+   *
+   * @param slotContext The context for the slot that the ItemStack is in
+   * @param stack       The ItemStack in question
+   * @return True to tick the ItemStack while equipped, false to skip ticking
+   */
+  default boolean canTick(SlotContext slotContext, ItemStack stack) {
+    return true;
+  }
+
   /**
    * Called when the ItemStack is equipped into a slot or its data changes.
    *
@@ -43,6 +43,7 @@ public final class SlotType implements ISlotType {
   private final ResourceLocation icon;
   private final ICurio.DropRule dropRule;
   private final boolean renderToggle;
+  private final int tickInterval;
   private final Set<ResourceLocation> validators;
 
   public static ISlotType from(CompoundTag tag) {
@@ -54,6 +55,10 @@ public final class SlotType implements ISlotType {
     builder.hasCosmetic(tag.getBoolean("HasCosmetic"));
     builder.renderToggle(tag.getBoolean("ToggleRender"));
     builder.dropRule(ICurio.DropRule.values()[tag.getInt("DropRule")]);
+
+    if (tag.contains("TickInterval")) {
+      builder.tickInterval(tag.getInt("TickInterval"));
+    }
     ListTag list = tag.getList("Validators", Tag.TAG_STRING);
     for (Tag tag1 : list) {
 
@@ -73,6 +78,7 @@ public final class SlotType implements ISlotType {
     this.icon = builder.icon;
     this.dropRule = builder.dropRule;
     this.renderToggle = builder.renderToggle;
+    this.tickInterval = builder.tickInterval;
     this.validators = builder.validators;
   }
 
@@ -116,6 +122,11 @@ public final class SlotType implements ISlotType {
     return this.dropRule;
   }
 
+  @Override
+  public int getTickInterval() {
+    return this.tickInterval;
+  }
+
   @Override
   public Set<ResourceLocation> getValidators() {
     return this.validators;
@@ -161,6 +172,7 @@ public final class SlotType implements ISlotType {
     tag.putBoolean("HasCosmetic", this.hasCosmetic);
     tag.putBoolean("ToggleRender", this.renderToggle);
     tag.putInt("DropRule", this.dropRule.ordinal());
+    tag.putInt("TickInterval", this.tickInterval);
     ListTag list = new ListTag();
 
     for (ResourceLocation slotResultPredicate : this.validators) {
@@ -179,6 +191,7 @@ public final class SlotType implements ISlotType {
     private Boolean useNativeGui = null;
     private Boolean hasCosmetic = null;
     private Boolean renderToggle = null;
+    private Integer tickInterval = null;
     private ResourceLocation icon =
         new ResourceLocation(CuriosConstants.MOD_ID, "slot/empty_curio_slot");
     private ICurio.DropRule dropRule = ICurio.DropRule.DEFAULT;
@@ -216,6 +229,10 @@ public final class SlotType implements ISlotType {
         this.renderToggle(builder.renderToggle);
       }
 
+      if (builder.tickInterval != null) {
+        this.tickInterval(builder.tickInterval);
+      }
+
       if (builder.icon != null) {
         this.icon(builder.icon);
       }
@@ -291,6 +308,16 @@ public final class SlotType implements ISlotType {
       return this;
     }
 
+    public Builder tickInterval(int tickInterval) {
+      return tickInterval(tickInterval, false);
+    }
+
+    public Builder tickInterval(int tickInterval, boolean replace) {
+      this.tickInterval = replace || this.tickInterval == null ? tickInterval :
+          Math.min(this.tickInterval, tickInterval);
+      return this;
+    }
+
     public Builder hasCosmetic(boolean hasCosmetic) {
       return hasCosmetic(hasCosmetic, false);
     }
@@ -350,6 +377,11 @@ public final class SlotType implements ISlotType {
         this.renderToggle = true;
       }
 
+      if (this.tickInterval == null) {
+        this.tickInterval = 1;
+      }
+      this.tickInterval = Math.max(this.tickInterval, 1);
+
       if (this.validators == null) {
         this.validators = Set.of(new ResourceLocation(CuriosConstants.MOD_ID, "tag"));
       }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable history of the changes made in the most recent generations, so that a consumer that
+ * last caught up to an earlier generation can catch up by applying only what changed since then.
+ * <br>
+ * Each {@link ChangeHistory#record(Set)} starts a new generation and returns a new history, so a
+ * history can be published to other threads as is.
+ *
+ * @param <T> The type of the changed elements
+ */
+public final class ChangeHistory<T> {
+
+  private final int generation;
+  private final List<Set<T>> changes;
+
+  private ChangeHistory(int generation, List<Set<T>> changes) {
+    this.generation = generation;
+    this.changes = changes;
+  }
+
+  /**
+   * Creates an empty history at generation 0.
+   *
+   * @param capacity The number of generations to keep the changes of
+   * @return A new {@link ChangeHistory}
+   */
+  public static <T> ChangeHistory<T> create(int capacity) {
+
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    return new ChangeHistory<>(0, Collections.nCopies(capacity, null));
+  }
+
+  /**
+   * @return The current generation
+   */
+  public int getGeneration() {
+    return this.generation;
+  }
+
+  /**
+   * Starts a new generation with the given changes, discarding the changes of the oldest
+   * generation if the history is full.
+   *
+   * @param changes The changes of the new generation
+   * @return A new {@link ChangeHistory} at the next generation
+   */
+  public ChangeHistory<T> record(Set<T> changes) {
+    int next = this.generation + 1;
+    List<Set<T>> updated = new ArrayList<>(this.changes);
+    updated.set(next % updated.size(), Set.copyOf(changes));
+    return new ChangeHistory<>(next, Collections.unmodifiableList(updated));
+  }
+
+  /**
+   * Collects the changes of every generation after the given one, up to and including the current
+   * generation.
+   *
+   * @param from The last generation that was caught up to
+   * @return The combined changes, which are empty if the generation is current, or null if some of
+   * them are no longer in the history or the generation is ahead of the current one
+   */
+  @Nullable
+  public Set<T> getChangesSince(int from) {
+
+    if (from > this.generation || this.generation - from > this.changes.size()) {
+      return null;
+    }
+    Set<T> result = new HashSet<>();
+
+    for (int i = from + 1; i <= this.generation; i++) {
+      Set<T> changes = this.changes.get(i % this.changes.size());
+
+      if (changes == null) {
+        return null;
+      }
+      result.addAll(changes);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import net.minecraft.SharedConstants;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.entity.ai.attributes.AttributeModifier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import top.theillusivec4.curios.CuriosConstants;
+
+class CurioAttributeModifiersTest {
+
+  private static final ResourceLocation ARMOR = new ResourceLocation("minecraft", "generic.armor");
+  private static final ResourceLocation RING =
+      new ResourceLocation(CuriosConstants.MOD_ID, "ring");
+  private static final ResourceLocation UNKNOWN = new ResourceLocation("curios_test", "unknown");
+
+  @BeforeAll
+  static void bootstrap() {
+    SharedConstants.tryDetectVersion();
+    Bootstrap.bootStrap();
+  }
+
+  private static AttributeModifier modifier(double amount) {
+    return new AttributeModifier(UUID.randomUUID(), "test", amount,
+        AttributeModifier.Operation.ADD_VALUE);
+  }
+
+  @Test
+  void builtComponentIsImmutable() {
+    CurioAttributeModifiers.Builder builder =
+        CurioAttributeModifiers.builder().add(ARMOR, modifier(1.0d), "ring");
+    CurioAttributeModifiers first = builder.build();
+    builder.add(ARMOR, modifier(2.0d), "ring");
+    CurioAttributeModifiers second = builder.build();
+    assertEquals(1, first.modifiers().size());
+    assertEquals(2, second.modifiers().size());
+    assertThrows(UnsupportedOperationException.class,
+        () -> first.modifiers().add(new CurioAttributeModifiers.Entry(ARMOR, modifier(3.0d),
+            "ring")));
+  }
+
+  @Test
+  void groupsEntriesBySlotInOrder() {
+    AttributeModifier ring1 = modifier(1.0d);
+    AttributeModifier necklace = modifier(2.0d);
+    AttributeModifier ring2 = modifier(3.0d);
+    CurioAttributeModifiers modifiers = CurioAttributeModifiers.builder()
+        .add(ARMOR, ring1, "ring")
+        .add(ARMOR, necklace, "necklace")
+        .add(ARMOR, ring2, "ring")
+        .build();
+    List<CurioAttributeModifiers.ResolvedEntry> ring = modifiers.getModifiers("ring");
+    assertEquals(2, ring.size());
+    assertEquals(ring1, ring.get(0).modifier());
+    assertEquals(ring2, ring.get(1).modifier());
+    assertEquals(List.of(necklace),
+        modifiers.getModifiers("necklace").stream()
+            .map(CurioAttributeModifiers.ResolvedEntry::modifier).toList());
+  }
+
+  @Test
+  void resolvesAttributes() {
+    CurioAttributeModifiers modifiers = CurioAttributeModifiers.builder()
+        .add(ARMOR, modifier(1.0d), "ring")
+        .add(RING, modifier(1.0d), "ring")
+        .add(UNKNOWN, modifier(1.0d), "ring")
+        .build();
+    List<CurioAttributeModifiers.ResolvedEntry> ring = modifiers.getModifiers("ring");
+    assertNotNull(ring.get(0).attribute());
+    assertEquals(ARMOR, ring.get(0).id());
+    SlotAttribute slotAttribute =
+        assertInstanceOf(SlotAttribute.class, ring.get(1).attribute().value());
+    assertEquals("ring", slotAttribute.getIdentifier());
+    assertNull(ring.get(2).attribute());
+    assertEquals(UNKNOWN, ring.get(2).id());
+  }
+
+  @Test
+  void emptyForUnknownSlot() {
+    CurioAttributeModifiers modifiers =
+        CurioAttributeModifiers.builder().add(ARMOR, modifier(1.0d), "ring").build();
+    assertTrue(modifiers.getModifiers("necklace").isEmpty());
+    assertTrue(CurioAttributeModifiers.EMPTY.getModifiers("ring").isEmpty());
+  }
+
+  @Test
+  void equalComponentsResolveEqually() {
+    AttributeModifier attributeModifier = modifier(1.0d);
+    CurioAttributeModifiers first = CurioAttributeModifiers.builder()
+        .add(ARMOR, attributeModifier, "ring").add(RING, attributeModifier, "ring").build();
+    CurioAttributeModifiers second = CurioAttributeModifiers.builder()
+        .add(ARMOR, attributeModifier, "ring").add(RING, attributeModifier, "ring").build();
+    assertEquals(first, second);
+    assertEquals(first.getModifiers("ring"), second.getModifiers("ring"));
+  }
+
+  @Test
+  void toBuilderKeepsEntriesAndTooltip() {
+    CurioAttributeModifiers original = CurioAttributeModifiers.builder()
+        .add(ARMOR, modifier(1.0d), "ring")
+        .showInTooltip(false)
+        .build();
+    CurioAttributeModifiers appended =
+        original.toBuilder().add(RING, modifier(2.0d), "necklace").build();
+    assertFalse(appended.showInTooltip());
+    assertEquals(original.modifiers(), appended.modifiers().subList(0, 1));
+    assertEquals(1, appended.getModifiers("necklace").size());
+    assertEquals(1, original.modifiers().size());
+  }
+}
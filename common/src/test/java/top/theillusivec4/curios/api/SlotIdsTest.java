@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class SlotIdsTest {
+
+  @Test
+  void assignsDenseStableIds() {
+    int first = SlotIds.getId("slot_ids_test:dense_a");
+    int second = SlotIds.getId("slot_ids_test:dense_b");
+    assertEquals(first + 1, second);
+    assertEquals(first, SlotIds.getId("slot_ids_test:dense_a"));
+    assertEquals(second + 1, SlotIds.size());
+  }
+
+  @Test
+  void findIdDoesNotIntern() {
+    int size = SlotIds.size();
+    assertEquals(-1, SlotIds.findId("slot_ids_test:missing"));
+    assertEquals(-1, SlotIds.findId(null));
+    assertEquals(size, SlotIds.size());
+    int id = SlotIds.getId("slot_ids_test:found");
+    assertEquals(id, SlotIds.findId("slot_ids_test:found"));
+  }
+
+  @Test
+  void mapsIdsBackToIdentifiers() {
+    int id = SlotIds.getId("slot_ids_test:round_trip");
+    assertEquals("slot_ids_test:round_trip", SlotIds.getIdentifier(id));
+    assertNull(SlotIds.getIdentifier(-1));
+    assertNull(SlotIds.getIdentifier(SlotIds.size()));
+  }
+
+  @Test
+  void internsAllInOrder() {
+    int size = SlotIds.size();
+    SlotIds.internAll(List.of("slot_ids_test:order_c", "slot_ids_test:order_a",
+        "slot_ids_test:order_c", "slot_ids_test:order_b"));
+    assertEquals(size + 3, SlotIds.size());
+    assertEquals(size, SlotIds.findId("slot_ids_test:order_c"));
+    assertEquals(size + 1, SlotIds.findId("slot_ids_test:order_a"));
+    assertEquals(size + 2, SlotIds.findId("slot_ids_test:order_b"));
+  }
+
+  @Test
+  void assignsOneIdUnderContention() throws Exception {
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Integer>> results = new ArrayList<>();
+
+    try {
+
+      for (int i = 0; i < threads; i++) {
+        results.add(executor.submit(() -> {
+          start.await();
+          return SlotIds.getId("slot_ids_test:contended");
+        }));
+      }
+      start.countDown();
+      Set<Integer> ids = new HashSet<>();
+
+      for (Future<Integer> result : results) {
+        ids.add(result.get());
+      }
+      assertEquals(1, ids.size());
+      assertEquals("slot_ids_test:contended", SlotIds.getIdentifier(ids.iterator().next()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ChangeHistoryTest {
+
+  @Test
+  void startsEmptyAtGenerationZero() {
+    ChangeHistory<String> history = ChangeHistory.create(4);
+    assertEquals(0, history.getGeneration());
+    assertEquals(Set.of(), history.getChangesSince(0));
+  }
+
+  @Test
+  void rejectsNonPositiveCapacity() {
+    assertThrows(IllegalArgumentException.class, () -> ChangeHistory.create(0));
+  }
+
+  @Test
+  void recordReturnsNewHistory() {
+    ChangeHistory<String> history = ChangeHistory.create(4);
+    ChangeHistory<String> next = history.record(Set.of("a"));
+    assertEquals(0, history.getGeneration());
+    assertEquals(1, next.getGeneration());
+    assertEquals(Set.of(), history.getChangesSince(0));
+  }
+
+  @Test
+  void recordCopiesChanges() {
+    Set<String> changes = new HashSet<>(Set.of("a"));
+    ChangeHistory<String> history = ChangeHistory.<String>create(4).record(changes);
+    changes.add("b");
+    assertEquals(Set.of("a"), history.getChangesSince(0));
+  }
+
+  @Test
+  void combinesChangesSinceGeneration() {
+    ChangeHistory<String> history = ChangeHistory.<String>create(4)
+        .record(Set.of("a"))
+        .record(Set.of("b"))
+        .record(Set.of("b", "c"));
+    assertEquals(Set.of("a", "b", "c"), history.getChangesSince(0));
+    assertEquals(Set.of("b", "c"), history.getChangesSince(1));
+    assertEquals(Set.of("b", "c"), history.getChangesSince(2));
+    assertEquals(Set.of(), history.getChangesSince(3));
+  }
+
+  @Test
+  void keepsChangesUpToCapacity() {
+    ChangeHistory<String> history = ChangeHistory.create(2);
+
+    for (int i = 1; i <= 5; i++) {
+      history = history.record(Set.of("g" + i));
+    }
+    assertEquals(Set.of("g4", "g5"), history.getChangesSince(3));
+    assertEquals(Set.of("g5"), history.getChangesSince(4));
+    assertNull(history.getChangesSince(2));
+    assertNull(history.getChangesSince(0));
+  }
+
+  @Test
+  void unknownForGenerationAhead() {
+    ChangeHistory<String> history = ChangeHistory.<String>create(4).record(Set.of("a"));
+    assertNull(history.getChangesSince(2));
+  }
+
+  @Test
+  void unknownForNegativeGeneration() {
+    ChangeHistory<String> history = ChangeHistory.<String>create(4).record(Set.of("a"));
+    assertNull(history.getChangesSince(-1));
+    assertTrue(history.getChangesSince(0).contains("a"));
+  }
+}
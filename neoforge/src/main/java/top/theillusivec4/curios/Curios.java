@@ -28,6 +28,7 @@ import net.minecraft.client.renderer.entity.LivingEntityRenderer;
 import net.minecraft.client.resources.PlayerSkin;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.EntityType;
@@ -47,6 +48,7 @@ import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.neoforged.fml.event.lifecycle.InterModProcessEvent;
 import net.neoforged.neoforge.capabilities.RegisterCapabilitiesEvent;
 import net.neoforged.neoforge.client.event.EntityRenderersEvent;
+import net.neoforged.neoforge.client.event.RegisterClientReloadListenersEvent;
 import net.neoforged.neoforge.client.event.RegisterKeyMappingsEvent;
 import net.neoforged.neoforge.client.event.RegisterMenuScreensEvent;
 import net.neoforged.neoforge.common.NeoForge;
@@ -74,6 +76,7 @@ import top.theillusivec4.curios.common.CuriosHelper;
 import top.theillusivec4.curios.common.CuriosRegistry;
 import top.theillusivec4.curios.common.capability.CurioInventoryCapability;
 import top.theillusivec4.curios.common.capability.CurioItemHandler;
+import top.theillusivec4.curios.common.capability.CurioRevalidator;
 import top.theillusivec4.curios.common.capability.ItemizedCurioCapability;
 import top.theillusivec4.curios.common.data.CuriosEntityManager;
 import top.theillusivec4.curios.common.data.CuriosSlotManager;
@@ -136,7 +139,7 @@ public class Curios {
             if (entity instanceof LivingEntity livingEntity) {
 
               if (!CuriosApi.getEntitySlots(livingEntity).isEmpty()) {
-                return new CurioInventoryCapability(livingEntity);
+                return CurioInventoryCapability.get(livingEntity);
               }
             }
             return null;
@@ -178,6 +181,7 @@ public class Curios {
 
   private void serverStopped(ServerStoppedEvent evt) {
     CuriosApi.setSlotHelper(null);
+    CurioRevalidator.reset();
   }
 
   private void registerCommands(RegisterCommandsEvent evt) {
@@ -202,6 +206,7 @@ public class Curios {
       protected void apply(@Nonnull Void objectIn, @Nonnull ResourceManager resourceManagerIn,
                            @Nonnull ProfilerFiller profilerIn) {
         CuriosEventHandler.dirtyTags = true;
+        CuriosImplMixinHooks.clearAttributeModifierCache();
       }
     });
   }
@@ -221,6 +226,12 @@ public class Curios {
       NeoForge.EVENT_BUS.register(new GuiEventHandler());
     }
 
+    @SubscribeEvent
+    public static void registerReloadListeners(final RegisterClientReloadListenersEvent evt) {
+      evt.registerReloadListener(
+          (ResourceManagerReloadListener) resourceManager -> ClientEventHandler.clearTooltipCache());
+    }
+
     @SubscribeEvent
     public static void registerMenuScreens(final RegisterMenuScreensEvent evt) {
       evt.register(CuriosRegistry.CURIO_MENU.get(), CuriosScreen::new);
@@ -43,6 +43,8 @@ import top.theillusivec4.curios.api.SlotContext;
  * Note that this event is fired regardless of if the stack has NBT overriding attributes or not.
  * If your attribute should be ignored when attributes are overridden, you can check for the presence of the CurioAttributeModifiers tag.
  * <br>
+ * The modifiers passed to this event may be shared between calls, so they should only be changed through the methods of this event.
+ * <br>
  * This event is fired on the {@link net.neoforged.neoforge.common.NeoForge#EVENT_BUS}.
  */
 public class CurioAttributeModifierEvent extends Event {
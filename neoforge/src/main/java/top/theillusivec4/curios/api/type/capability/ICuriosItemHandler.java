@@ -42,7 +42,10 @@ import net.minecraft.world.level.storage.loot.LootContext;
 import net.neoforged.neoforge.items.IItemHandlerModifiable;
 import org.jetbrains.annotations.ApiStatus;
 import org.slf4j.Logger;
+import top.theillusivec4.curios.api.SlotContext;
+import top.theillusivec4.curios.api.SlotIds;
 import top.theillusivec4.curios.api.SlotResult;
+import top.theillusivec4.curios.api.event.SlotModifiersUpdatedEvent;
 import top.theillusivec4.curios.api.type.ISlotType;
 import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
 
@@ -94,6 +97,18 @@ public interface ICuriosItemHandler {
    */
   Optional<ICurioStacksHandler> getStacksHandler(String identifier);
 
+  /**
+   * Gets the Optional {@link ICurioStacksHandler} associated with the given interned slot id or
+   * Optional.empty() if it doesn't exist.
+   *
+   * @param slotId The id for the {@link ISlotType}, see {@link SlotIds}
+   * @return The stack handler
+   */
+  default Optional<ICurioStacksHandler> getStacksHandler(int slotId) {
+    String identifier = SlotIds.getIdentifier(slotId);
+    return identifier != null ? this.getStacksHandler(identifier) : Optional.empty();
+  }
+
   /**
    * Gets an {@link IItemHandlerModifiable} that contains all the equipped curio stacks (not including cosmetics).
    *
@@ -179,6 +194,22 @@ public interface ICuriosItemHandler {
    */
   Optional<SlotResult> findCurio(String identifier, int index);
 
+  /**
+   * Finds the slot that the given stack would be equipped to when used, as in right-clicking a
+   * curio item.
+   * <br>
+   * Empty slots are preferred in slot type order, followed by occupied slots whose stack can be
+   * swapped out. Only slots that accept the stack and whose curio returns true from
+   * {@link ICurio#canEquipFromUse(SlotContext)} are considered.
+   *
+   * @param stack The stack to equip
+   * @return An optional {@link SlotResult} with the target slot and the stack currently in it, or
+   *     empty if there is no target
+   */
+  default Optional<SlotResult> findEquipTarget(ItemStack stack) {
+    return Optional.empty();
+  }
+
   /**
    * Gets the wearer/owner of this handler instance.
    *
@@ -225,6 +256,17 @@ public interface ICuriosItemHandler {
    */
   void loadInventory(ListTag data);
 
+  /**
+   * Flags the equipped stacks as changed so that cached summaries of them, such as whether any
+   * equipped curio makes piglins neutral, are recalculated on their next use.
+   * <br>
+   * Changes made through the stack handlers are flagged automatically, so this only needs to be
+   * called after modifying an equipped stack directly.
+   */
+  default void markStacksChanged() {
+    // NO-OP
+  }
+
   /**
    * Retrieves a set containing the {@link ICurioStacksHandler} that require its slot modifiers be
    * synced to tracking clients.
@@ -303,6 +345,28 @@ public interface ICuriosItemHandler {
    */
   void clearSlotModifiers();
 
+  /**
+   * Runs the given action as a single batch of slot modifier changes.
+   * <br>
+   * Stacks handlers whose slot modifiers change during the batch keep their current size until the
+   * batch ends. They are then resized together, a single {@link SlotModifiersUpdatedEvent} is
+   * posted with the identifiers of every resized handler, and the open curios menu is reset once.
+   * Batches can be nested, in which case the changes are applied when the outermost batch ends.
+   *
+   * @param action The action that modifies the slot modifiers of this handler
+   */
+  default void batchSlotModifiers(Runnable action) {
+    action.run();
+  }
+
+  /**
+   * @return True if slot modifier changes are currently being batched, see
+   * {@link ICuriosItemHandler#batchSlotModifiers(Runnable)}
+   */
+  default boolean isBatchingSlotModifiers() {
+    return false;
+  }
+
   /**
    * Retrieves all the slot modifiers from the handler.
    *
@@ -324,7 +388,8 @@ public interface ICuriosItemHandler {
    * Removes the cached modifiers that appear upon deserialization of the handler.
    * <br>
    * Primarily for internal use, used as a workaround to avoid calculating slot stacks before slot
-   * modifiers are initially applied.
+   * modifiers are initially applied. This only does work once after the handler has been
+   * deserialized or reset, and returns immediately afterward.
    */
   void clearCachedSlotModifiers();
 
@@ -46,6 +46,16 @@ public interface ISlotData {
 
   ISlotData renderToggle(boolean renderToggle);
 
+  /**
+   * Sets the tick interval of the slot data. Implementations that do not support it ignore it.
+   *
+   * @param tickInterval The number of ticks between curio ticks in the slot type
+   * @return This slot data
+   */
+  default ISlotData tickInterval(int tickInterval) {
+    return this;
+  }
+
   ISlotData icon(ResourceLocation icon);
 
   ISlotData dropRule(ICurio.DropRule dropRule);
@@ -27,6 +27,7 @@ import java.util.Set;
 import java.util.UUID;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.AttributeModifier;
 import top.theillusivec4.curios.api.SlotContext;
 import top.theillusivec4.curios.api.type.capability.ICurio;
@@ -49,6 +50,19 @@ public interface ICurioStacksHandler {
    */
   IDynamicStackHandler getCosmeticStacks();
 
+  /**
+   * Gets whether the cosmetic stack handler has been created.
+   * <br>
+   * Implementations may only create the cosmetic stack handler when it is first needed, in which
+   * case this can be checked before {@link ICurioStacksHandler#getCosmeticStacks()} to skip empty
+   * cosmetic stacks without creating them.
+   *
+   * @return True if the cosmetic stack handler has been created
+   */
+  default boolean hasCosmeticStacks() {
+    return true;
+  }
+
   /**
    * Gets a list of boolean values that represent render states. True for rendering and false for no
    * rendering.
@@ -59,6 +73,23 @@ public interface ICurioStacksHandler {
    */
   NonNullList<Boolean> getRenders();
 
+  /**
+   * Gets the {@link SlotContext} for the given slot index.
+   * <br>
+   * Implementations may return a cached instance that is shared between calls, which is safe as
+   * {@link SlotContext} is immutable.
+   *
+   * @param livingEntity The wearer of the slot
+   * @param index        The slot index
+   * @param cosmetic     True for the cosmetic slot, false for the functional slot
+   * @return The {@link SlotContext} for the slot
+   */
+  default SlotContext getSlotContext(LivingEntity livingEntity, int index, boolean cosmetic) {
+    NonNullList<Boolean> renders = this.getRenders();
+    return new SlotContext(this.getIdentifier(), livingEntity, index, cosmetic,
+        renders.size() > index && renders.get(index));
+  }
+
   /**
    * Gets whether this stack handler can toggle rendering its contents on an entity, which is stored in {@link ICurioStacksHandler#getRenders()}.
    *
@@ -81,6 +112,18 @@ public interface ICurioStacksHandler {
     return ICurio.DropRule.DEFAULT;
   }
 
+  /**
+   * Gets the number of ticks between updates of the curios in this stack handler.
+   * <br>
+   * Curios are only ticked on every nth tick of the wearer, offset by the wearer's id so that
+   * wearers do not all update on the same tick.
+   *
+   * @return The number of ticks between updates
+   */
+  default int getTickInterval() {
+    return 1;
+  }
+
   /**
    * Gets the number of slots for equipped curio stacks.
    * <br>
@@ -20,11 +20,17 @@
 
 package top.theillusivec4.curios.api.type.inventory;
 
+import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.items.IItemHandlerModifiable;
+import top.theillusivec4.curios.api.CuriosCapability;
+import top.theillusivec4.curios.api.CuriosTags;
+import top.theillusivec4.curios.api.SlotContext;
+import top.theillusivec4.curios.api.type.capability.ICurio;
 
 public interface IDynamicStackHandler extends IItemHandlerModifiable {
 
@@ -62,6 +68,103 @@ public interface IDynamicStackHandler extends IItemHandlerModifiable {
    */
   ItemStack getPreviousStackInSlot(int slot);
 
+  /**
+   * Gets the {@link ICurio} of the current stack in the given slot index.
+   * <br>
+   * Implementations may cache the result until the stack in the slot is replaced or the slot is
+   * marked as changed, so this should be preferred over resolving the capability of the stack
+   * directly. The cache is keyed on the identity of the stack only, so a stack whose components
+   * are changed in place keeps its cached curio until {@link IDynamicStackHandler#markChanged(int)}
+   * or {@link IDynamicStackHandler#invalidateCurio(int)} is called for its slot.
+   *
+   * @param slot The slot index
+   * @return The {@link ICurio} of the current stack, or null if there is none
+   */
+  @Nullable
+  default ICurio getCurio(int slot) {
+    return this.getStackInSlot(slot).getCapability(CuriosCapability.ITEM);
+  }
+
+  /**
+   * Discards the cached {@link ICurio} of the given slot index, if any, so that the next call to
+   * {@link IDynamicStackHandler#getCurio(int)} resolves it again from the current stack.
+   *
+   * @param slot The slot index
+   */
+  default void invalidateCurio(int slot) {
+    // NO-OP
+  }
+
+  /**
+   * Flags the given slot index as changed so that its current stack is compared against its
+   * previous stack on the next tick.
+   * <br>
+   * Changes made through {@link IDynamicStackHandler#setStackInSlot(int, ItemStack)},
+   * {@link IDynamicStackHandler#insertItem(int, ItemStack, boolean)}, and
+   * {@link IDynamicStackHandler#extractItem(int, int, boolean)} are flagged automatically, so this
+   * only needs to be called after modifying the stack in the slot directly.
+   *
+   * @param slot The slot index
+   */
+  default void markChanged(int slot) {
+    // NO-OP
+  }
+
+  /**
+   * Gets the next slot index, starting from the given index, that has been flagged as changed.
+   * <br>
+   * Implementations that do not track changes treat every slot as changed.
+   *
+   * @param fromIndex The slot index to start searching from, inclusive
+   * @return The next changed slot index, or -1 if there are none
+   */
+  default int nextChangedSlot(int fromIndex) {
+    return fromIndex < this.getSlots() ? fromIndex : -1;
+  }
+
+  /**
+   * Clears the changed flag for the given slot index.
+   *
+   * @param slot The slot index
+   */
+  default void clearChanged(int slot) {
+    // NO-OP
+  }
+
+  /**
+   * Gets the next slot index, starting from the given index, that holds an empty stack.
+   * <br>
+   * Implementations may track empty slots through the same changes as
+   * {@link IDynamicStackHandler#markChanged(int)}.
+   *
+   * @param fromIndex The slot index to start searching from, inclusive
+   * @return The next empty slot index, or -1 if there are none
+   */
+  default int nextEmptySlot(int fromIndex) {
+
+    for (int i = Math.max(0, fromIndex); i < this.getSlots(); i++) {
+
+      if (this.getStackInSlot(i).isEmpty()) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the slot indices, in ascending order, that hold stacks that need to be ticked.
+   * <br>
+   * Stacks are excluded if their item is in the {@link CuriosTags#NO_TICK} tag or if their curio
+   * returns false from {@link ICurio#canTick(SlotContext)}. The returned array should not be
+   * modified.
+   *
+   * @return An array of slot indices that need to be ticked
+   */
+  default int[] getTickingSlots() {
+    return IntStream.range(0, this.getSlots()).filter(i -> !this.getStackInSlot(i).isEmpty())
+        .toArray();
+  }
+
   /**
    * @return The total number of slots
    */
@@ -27,6 +27,7 @@ import com.mojang.blaze3d.platform.InputConstants;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -52,6 +53,7 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.loading.FMLLoader;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.client.event.InputEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import net.neoforged.neoforge.event.entity.player.ItemTooltipEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
 import top.theillusivec4.curios.CuriosConstants;
@@ -61,7 +63,9 @@ import top.theillusivec4.curios.api.SlotContext;
 import top.theillusivec4.curios.api.type.ICuriosMenu;
 import top.theillusivec4.curios.api.type.ISlotType;
 import top.theillusivec4.curios.api.type.capability.ICurio;
+import top.theillusivec4.curios.common.inventory.DynamicStackHandler;
 import top.theillusivec4.curios.common.network.client.CPacketOpenCurios;
+import top.theillusivec4.curios.mixin.CuriosImplMixinHooks;
 
 public class ClientEventHandler {
 
@@ -69,10 +73,19 @@ public class ClientEventHandler {
       .fromString("CB3F55D3-645C-4F38-A497-9C13A33DB5CF");
   private static final UUID ATTACK_SPEED_MODIFIER = UUID
       .fromString("FA233E1C-4180-4865-B01B-BCCE9785ACA3");
+  private static final int TOOLTIP_CACHE_SIZE = 512;
+  private static final Map<TooltipKey, TooltipLines> TOOLTIP_CACHE =
+      new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TooltipKey, TooltipLines> eldest) {
+          return this.size() > TOOLTIP_CACHE_SIZE;
+        }
+      };
 
   @SubscribeEvent
   public void onClientTick(ClientTickEvent.Post evt) {
     Minecraft mc = Minecraft.getInstance();
+    DynamicStackHandler.invalidateVerdicts(true);
 
     if (KeyRegistry.openCurios.consumeClick() && mc.isWindowActive()) {
       PacketDistributor.sendToServer(new CPacketOpenCurios(ItemStack.EMPTY));
@@ -92,6 +105,11 @@ public class ClientEventHandler {
     }
   }
 
+  @SubscribeEvent
+  public void onTagsUpdated(TagsUpdatedEvent evt) {
+    clearTooltipCache();
+  }
+
   @SubscribeEvent
   public void onTooltip(ItemTooltipEvent evt) {
     ItemStack stack = evt.getItemStack();
@@ -136,185 +154,264 @@ public class ClientEventHandler {
           }
         }
       }
-      Map<String, ISlotType> map = player != null ? CuriosApi.getItemStackSlots(stack, player) :
-          CuriosApi.getItemStackSlots(stack, FMLLoader.getDist() == Dist.CLIENT);
-      // Remove slots that have curios:all validators to avoid tooltip bloat on every item
-      map = new HashMap<>(map);
-      Set<String> toRemove = new HashSet<>();
+      TooltipLines lines = getTooltipLines(stack, player);
 
-      for (ISlotType value : map.values()) {
+      if (lines != TooltipLines.EMPTY) {
+        List<Component> tagTooltips = copyLines(lines.slots());
+        Optional<ICurio> optionalCurio = CuriosApi.getCurio(stack);
+        optionalCurio.ifPresent(curio -> {
+          List<Component> actualSlotsTooltip = curio.getSlotsTooltip(tagTooltips);
 
-        for (ResourceLocation validator : value.getValidators()) {
+          if (!actualSlotsTooltip.isEmpty()) {
+            tooltip.addAll(1, actualSlotsTooltip);
+          }
+        });
 
-          if (validator.getNamespace().equals(CuriosConstants.MOD_ID) &&
-              validator.getPath().equals("all")) {
-            toRemove.add(value.getIdentifier());
-            break;
+        if (optionalCurio.isEmpty()) {
+          tooltip.addAll(1, tagTooltips);
+        }
+        List<Component> attributeTooltip = copyLines(lines.attributes());
+        optionalCurio.ifPresent(curio -> {
+          List<Component> actualAttributeTooltips =
+              curio.getAttributesTooltip(attributeTooltip);
+
+          if (!actualAttributeTooltips.isEmpty()) {
+            tooltip.addAll(actualAttributeTooltips);
           }
+        });
+
+        if (optionalCurio.isEmpty()) {
+          tooltip.addAll(attributeTooltip);
         }
       }
+    }
+  }
 
-      for (String s : toRemove) {
-        map.remove(s);
-      }
-      Set<String> curioTags = Set.copyOf(map.keySet());
+  /**
+   * Gets the Curios slot and attribute tooltip lines for an ItemStack.
+   * <br>
+   * The slots and attribute modifiers of the stack are resolved on every call, as they may depend
+   * on the player, and only the formatting of the lines is cached, keyed by everything the lines
+   * are built from.
+   */
+  private static TooltipLines getTooltipLines(ItemStack stack, Player player) {
+    List<String> slots = getTooltipSlots(stack, player);
+
+    if (slots.isEmpty()) {
+      return TooltipLines.EMPTY;
+    }
+    List<Multimap<Holder<Attribute>, AttributeModifier>> modifiers =
+        new ArrayList<>(slots.size());
 
-      if (curioTags.contains("curio")) {
-        curioTags = Set.of("curio");
+    for (String identifier : slots) {
+      SlotContext slotContext = new SlotContext(identifier, player, 0, false, true);
+      modifiers.add(CuriosImplMixinHooks.getCachedAttributeModifiers(slotContext,
+          CuriosApi.getSlotUuid(slotContext), stack));
+    }
+    TooltipKey key = player != null ?
+        new TooltipKey(slots, modifiers, true, getBaseValue(player, Attributes.ATTACK_DAMAGE),
+            getBaseValue(player, Attributes.ATTACK_SPEED),
+            EnchantmentHelper.getDamageBonus(stack, null)) :
+        new TooltipKey(slots, modifiers, false, 0.0D, 0.0D, 0.0D);
+    TooltipLines lines;
+
+    synchronized (TOOLTIP_CACHE) {
+      lines = TOOLTIP_CACHE.get(key);
+    }
+
+    if (lines == null) {
+      lines = computeTooltipLines(key);
+
+      synchronized (TOOLTIP_CACHE) {
+        TOOLTIP_CACHE.put(key, lines);
       }
-      List<String> slots = new ArrayList<>(curioTags);
+    }
+    return lines;
+  }
 
-      if (!slots.isEmpty()) {
-        List<Component> tagTooltips = new ArrayList<>();
-        MutableComponent slotsTooltip =
-            Component.translatable("curios.tooltip.slot").append(" ")
-                .withStyle(ChatFormatting.GOLD);
+  public static void clearTooltipCache() {
 
-        for (int j = 0; j < slots.size(); j++) {
-          String key = "curios.identifier." + slots.get(j);
-          MutableComponent type = Component.translatable(key);
+    synchronized (TOOLTIP_CACHE) {
+      TOOLTIP_CACHE.clear();
+    }
+  }
 
-          if (j < slots.size() - 1) {
-            type = type.append(", ");
-          }
+  private static double getBaseValue(Player player, Holder<Attribute> attribute) {
+    AttributeInstance att = player.getAttribute(attribute);
+    return att != null ? att.getBaseValue() : 0.0D;
+  }
+
+  private static List<Component> copyLines(List<Component> lines) {
+    List<Component> result = new ArrayList<>(lines.size());
+
+    for (Component line : lines) {
+      result.add(line.copy());
+    }
+    return result;
+  }
+
+  private static List<String> getTooltipSlots(ItemStack stack, Player player) {
+    Map<String, ISlotType> map = player != null ? CuriosApi.getItemStackSlots(stack, player) :
+        CuriosApi.getItemStackSlots(stack, FMLLoader.getDist() == Dist.CLIENT);
+    // Remove slots that have curios:all validators to avoid tooltip bloat on every item
+    map = new HashMap<>(map);
+    Set<String> toRemove = new HashSet<>();
+
+    for (ISlotType value : map.values()) {
+
+      for (ResourceLocation validator : value.getValidators()) {
 
-          type = type.withStyle(ChatFormatting.YELLOW);
-          slotsTooltip.append(type);
+        if (validator.getNamespace().equals(CuriosConstants.MOD_ID) &&
+            validator.getPath().equals("all")) {
+          toRemove.add(value.getIdentifier());
+          break;
         }
-        tagTooltips.add(slotsTooltip);
+      }
+    }
 
-        Optional<ICurio> optionalCurio = CuriosApi.getCurio(stack);
-        optionalCurio.ifPresent(curio -> {
-          List<Component> actualSlotsTooltip = curio.getSlotsTooltip(tagTooltips);
+    for (String s : toRemove) {
+      map.remove(s);
+    }
+    Set<String> curioTags = Set.copyOf(map.keySet());
 
-          if (!actualSlotsTooltip.isEmpty()) {
-            tooltip.addAll(1, actualSlotsTooltip);
-          }
-        });
+    if (curioTags.contains("curio")) {
+      curioTags = Set.of("curio");
+    }
+    return new ArrayList<>(curioTags);
+  }
 
-        if (optionalCurio.isEmpty()) {
-          tooltip.addAll(1, tagTooltips);
+  private static TooltipLines computeTooltipLines(TooltipKey key) {
+    List<String> slots = key.slots();
+
+    if (!slots.isEmpty()) {
+      List<Component> tagTooltips = new ArrayList<>();
+      MutableComponent slotsTooltip =
+          Component.translatable("curios.tooltip.slot").append(" ")
+              .withStyle(ChatFormatting.GOLD);
+
+      for (int j = 0; j < slots.size(); j++) {
+        MutableComponent type = Component.translatable("curios.identifier." + slots.get(j));
+
+        if (j < slots.size() - 1) {
+          type = type.append(", ");
         }
-        List<Component> attributeTooltip = new ArrayList<>();
 
-        for (String identifier : slots) {
-          Multimap<Holder<Attribute>, AttributeModifier> multimap =
-              CuriosApi.getAttributeModifiers(new SlotContext(identifier, player, 0, false, true),
-                  UUID.randomUUID(), stack);
+        type = type.withStyle(ChatFormatting.YELLOW);
+        slotsTooltip.append(type);
+      }
+      tagTooltips.add(slotsTooltip);
+      List<Component> attributeTooltip = new ArrayList<>();
 
-          if (!multimap.isEmpty()) {
-            boolean init = false;
+      for (int i = 0; i < slots.size(); i++) {
+        String identifier = slots.get(i);
+        Multimap<Holder<Attribute>, AttributeModifier> multimap = key.modifiers().get(i);
 
-            for (Map.Entry<Holder<Attribute>, AttributeModifier> entry : multimap.entries()) {
+        if (!multimap.isEmpty()) {
+          boolean init = false;
 
-              // Some mods are adding null attributes so add a guard here to not crash the client
-              if (entry.getKey() == null) {
-                continue;
-              }
+          for (Map.Entry<Holder<Attribute>, AttributeModifier> entry : multimap.entries()) {
 
-              if (!init) {
-                attributeTooltip.add(Component.empty());
-                attributeTooltip.add(Component.translatable("curios.modifiers." + identifier)
-                    .withStyle(ChatFormatting.GOLD));
-                init = true;
+            // Some mods are adding null attributes so add a guard here to not crash the client
+            if (entry.getKey() == null) {
+              continue;
+            }
+
+            if (!init) {
+              attributeTooltip.add(Component.empty());
+              attributeTooltip.add(Component.translatable("curios.modifiers." + identifier)
+                  .withStyle(ChatFormatting.GOLD));
+              init = true;
+            }
+            AttributeModifier attributemodifier = entry.getValue();
+            double amount = attributemodifier.amount();
+            boolean flag = false;
+
+            if (key.hasPlayer()) {
+
+              if (attributemodifier.id() == ATTACK_DAMAGE_MODIFIER) {
+                amount = amount + key.attackDamage();
+                amount = amount + key.damageBonus();
+                flag = true;
+              } else if (attributemodifier.id() == ATTACK_SPEED_MODIFIER) {
+                amount += key.attackSpeed();
+                flag = true;
               }
-              AttributeModifier attributemodifier = entry.getValue();
-              double amount = attributemodifier.amount();
-              boolean flag = false;
-
-              if (player != null) {
-
-                if (attributemodifier.id() == ATTACK_DAMAGE_MODIFIER) {
-                  AttributeInstance att = player.getAttribute(Attributes.ATTACK_DAMAGE);
-
-                  if (att != null) {
-                    amount = amount + att.getBaseValue();
-                  }
-                  amount = amount + EnchantmentHelper.getDamageBonus(stack, null);
-                  flag = true;
-                } else if (attributemodifier.id() == ATTACK_SPEED_MODIFIER) {
-                  AttributeInstance att = player.getAttribute(Attributes.ATTACK_SPEED);
-
-                  if (att != null) {
-                    amount += att.getBaseValue();
-                  }
-                  flag = true;
-                }
 
-                double d1;
+              double d1;
 
-                if (attributemodifier.operation() !=
-                    AttributeModifier.Operation.ADD_MULTIPLIED_BASE &&
-                    attributemodifier.operation() !=
-                        AttributeModifier.Operation.ADD_MULTIPLIED_TOTAL) {
+              if (attributemodifier.operation() !=
+                  AttributeModifier.Operation.ADD_MULTIPLIED_BASE &&
+                  attributemodifier.operation() !=
+                      AttributeModifier.Operation.ADD_MULTIPLIED_TOTAL) {
 
-                  if (entry.getKey().equals(Attributes.KNOCKBACK_RESISTANCE)) {
-                    d1 = amount * 10.0D;
-                  } else {
-                    d1 = amount;
-                  }
+                if (entry.getKey().equals(Attributes.KNOCKBACK_RESISTANCE)) {
+                  d1 = amount * 10.0D;
                 } else {
-                  d1 = amount * 100.0D;
+                  d1 = amount;
                 }
+              } else {
+                d1 = amount * 100.0D;
+              }
+
+              if (entry.getKey().value() instanceof SlotAttribute slotAttribute) {
 
-                if (entry.getKey().value() instanceof SlotAttribute slotAttribute) {
-
-                  if (amount > 0.0D) {
-                    attributeTooltip.add((Component.translatable(
-                        "curios.modifiers.slots.plus." +
-                            attributemodifier.operation().id(),
-                        ATTRIBUTE_MODIFIER_FORMAT.format(d1),
-                        Component.translatable(
-                            "curios.identifier." + slotAttribute.getIdentifier())))
-                        .withStyle(ChatFormatting.BLUE));
-                  } else {
-                    d1 = d1 * -1.0D;
-                    attributeTooltip.add((Component.translatable(
-                        "curios.modifiers.slots.take." +
-                            attributemodifier.operation().id(),
-                        ATTRIBUTE_MODIFIER_FORMAT.format(d1),
-                        Component.translatable(
-                            "curios.identifier." + slotAttribute.getIdentifier())))
-                        .withStyle(ChatFormatting.RED));
-                  }
-                } else if (flag) {
-                  attributeTooltip.add(
-                      (Component.literal(" ")).append(Component.translatable(
-                              "attribute.modifier.equals." + attributemodifier.operation().id(),
-                              ATTRIBUTE_MODIFIER_FORMAT.format(d1),
-                              Component.translatable(entry.getKey().value().getDescriptionId())))
-                          .withStyle(ChatFormatting.DARK_GREEN));
-                } else if (amount > 0.0D) {
+                if (amount > 0.0D) {
                   attributeTooltip.add((Component.translatable(
-                      "attribute.modifier.plus." + attributemodifier.operation().id(),
+                      "curios.modifiers.slots.plus." +
+                          attributemodifier.operation().id(),
                       ATTRIBUTE_MODIFIER_FORMAT.format(d1),
-                      Component.translatable(entry.getKey().value().getDescriptionId())))
+                      Component.translatable(
+                          "curios.identifier." + slotAttribute.getIdentifier())))
                       .withStyle(ChatFormatting.BLUE));
-                } else if (amount < 0.0D) {
+                } else {
                   d1 = d1 * -1.0D;
                   attributeTooltip.add((Component.translatable(
-                      "attribute.modifier.take." + attributemodifier.operation().id(),
+                      "curios.modifiers.slots.take." +
+                          attributemodifier.operation().id(),
                       ATTRIBUTE_MODIFIER_FORMAT.format(d1),
-                      Component.translatable(entry.getKey().value().getDescriptionId())))
+                      Component.translatable(
+                          "curios.identifier." + slotAttribute.getIdentifier())))
                       .withStyle(ChatFormatting.RED));
                 }
+              } else if (flag) {
+                attributeTooltip.add(
+                    (Component.literal(" ")).append(Component.translatable(
+                            "attribute.modifier.equals." + attributemodifier.operation().id(),
+                            ATTRIBUTE_MODIFIER_FORMAT.format(d1),
+                            Component.translatable(entry.getKey().value().getDescriptionId())))
+                        .withStyle(ChatFormatting.DARK_GREEN));
+              } else if (amount > 0.0D) {
+                attributeTooltip.add((Component.translatable(
+                    "attribute.modifier.plus." + attributemodifier.operation().id(),
+                    ATTRIBUTE_MODIFIER_FORMAT.format(d1),
+                    Component.translatable(entry.getKey().value().getDescriptionId())))
+                    .withStyle(ChatFormatting.BLUE));
+              } else if (amount < 0.0D) {
+                d1 = d1 * -1.0D;
+                attributeTooltip.add((Component.translatable(
+                    "attribute.modifier.take." + attributemodifier.operation().id(),
+                    ATTRIBUTE_MODIFIER_FORMAT.format(d1),
+                    Component.translatable(entry.getKey().value().getDescriptionId())))
+                    .withStyle(ChatFormatting.RED));
               }
             }
           }
         }
-        optionalCurio.ifPresent(curio -> {
-          List<Component> actualAttributeTooltips =
-              curio.getAttributesTooltip(attributeTooltip);
-
-          if (!actualAttributeTooltips.isEmpty()) {
-            tooltip.addAll(actualAttributeTooltips);
-          }
-        });
-
-        if (optionalCurio.isEmpty()) {
-          tooltip.addAll(attributeTooltip);
-        }
       }
+      return new TooltipLines(tagTooltips, attributeTooltip);
     }
+    return TooltipLines.EMPTY;
+  }
+
+  private record TooltipKey(List<String> slots,
+                            List<Multimap<Holder<Attribute>, AttributeModifier>> modifiers,
+                            boolean hasPlayer, double attackDamage, double attackSpeed,
+                            double damageBonus) {
+
+  }
+
+  private record TooltipLines(List<Component> slots, List<Component> attributes) {
+
+    static final TooltipLines EMPTY = new TooltipLines(List.of(), List.of());
   }
 }
@@ -52,10 +52,12 @@ public class CuriosLayer<T extends LivingEntity, M extends EntityModel<T>> exten
     CuriosApi.getCuriosInventory(livingEntity)
         .ifPresent(handler -> handler.getCurios().forEach((id, stacksHandler) -> {
           IDynamicStackHandler stackHandler = stacksHandler.getStacks();
-          IDynamicStackHandler cosmeticStacksHandler = stacksHandler.getCosmeticStacks();
+          IDynamicStackHandler cosmeticStacksHandler =
+              stacksHandler.hasCosmeticStacks() ? stacksHandler.getCosmeticStacks() : null;
 
           for (int i = 0; i < stackHandler.getSlots(); i++) {
-            ItemStack stack = cosmeticStacksHandler.getStackInSlot(i);
+            ItemStack stack = cosmeticStacksHandler != null ?
+                cosmeticStacksHandler.getStackInSlot(i) : ItemStack.EMPTY;
             boolean cosmetic = true;
             NonNullList<Boolean> renderStates = stacksHandler.getRenders();
             boolean renderable = renderStates.size() > i && renderStates.get(i);
@@ -65,6 +65,9 @@ public class CuriosConfig {
     public ModConfigSpec.EnumValue<KeepCurios> keepCurios;
     public ModConfigSpec.IntValue minimumColumns;
     public ModConfigSpec.IntValue maxSlotsPerPage;
+    public ModConfigSpec.IntValue changeCheckInterval;
+    public ModConfigSpec.IntValue lodDistance;
+    public ModConfigSpec.IntValue lodInterval;
 
     public Server(ModConfigSpec.Builder builder) {
       keepCurios = builder.comment("""
@@ -83,6 +86,32 @@ public class CuriosConfig {
           .translation(CONFIG_PREFIX + "maxSlotsPerPage")
           .defineInRange("maxSlotsPerPage", 48, 1, 48);
 
+      builder.pop();
+
+      builder.push("performance");
+
+      changeCheckInterval = builder.comment("""
+              The number of ticks between full checks of every equipped curio for changes.
+              Between full checks, only slots flagged as changed are checked.
+              Set to 1 to check every slot every tick.""")
+          .translation(CONFIG_PREFIX + "changeCheckInterval")
+          .defineInRange("changeCheckInterval", 20, 1, 1200);
+
+      lodDistance = builder.comment("""
+              The distance in blocks to the nearest player within which non-player entities
+              update their curios every tick.""")
+          .translation(CONFIG_PREFIX + "lodDistance")
+          .defineInRange("lodDistance", 32, 0, 512);
+
+      lodInterval = builder.comment("""
+              The number of ticks between curio updates for non-player entities that are farther
+              than lodDistance from every player.
+              Slot types with a tick_interval do not compound with this interval, and instead tick
+              every tick_interval ticks rounded up to a multiple of this interval.
+              Set to 1 to update every tick regardless of distance.""")
+          .translation(CONFIG_PREFIX + "lodInterval")
+          .defineInRange("lodInterval", 4, 1, 200);
+
       builder.pop();
       builder.build();
     }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.capability;
+
+import net.minecraft.tags.ItemTags;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.ItemStack;
+import top.theillusivec4.curios.api.CuriosTags;
+import top.theillusivec4.curios.api.SlotContext;
+import top.theillusivec4.curios.api.type.capability.ICurio;
+import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
+import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
+
+/**
+ * Summary of the abilities granted by the equipped curios of an inventory, recalculated only after
+ * the equipped stacks change or tags are reloaded.
+ * <br>
+ * Stacks in the {@link CuriosTags#DYNAMIC_ABILITIES} tag are not summarized and instead set
+ * {@link CurioAbilities#DYNAMIC}, in which case callers should check every equipped curio. Ender
+ * masks depend on the Enderman, so {@link CurioAbilities#ENDER_MASK} only marks that some equipped
+ * stack has a curio that needs to be checked.
+ */
+public final class CurioAbilities {
+
+  public static final int PIGLIN_NEUTRAL = 1;
+  public static final int POWDER_SNOW_WALKER = 1 << 1;
+  public static final int FREEZE_IMMUNE = 1 << 2;
+  public static final int ENDER_MASK = 1 << 3;
+  public static final int DYNAMIC = 1 << 4;
+
+  private static volatile int generation = 0;
+
+  private int abilities = 0;
+  private int computedGeneration = -1;
+  private boolean dirty = true;
+
+  public static void invalidateAll() {
+    generation++;
+  }
+
+  public void markDirty() {
+    this.dirty = true;
+  }
+
+  public int get(CurioInventory curioInventory, LivingEntity livingEntity) {
+    int current = generation;
+
+    if (this.dirty || this.computedGeneration != current) {
+      this.dirty = false;
+      this.computedGeneration = current;
+      this.abilities = compute(curioInventory, livingEntity);
+    }
+    return this.abilities;
+  }
+
+  private static int compute(CurioInventory curioInventory, LivingEntity livingEntity) {
+    int abilities = 0;
+
+    for (ICurioStacksHandler stacksHandler : curioInventory.asMap().values()) {
+      IDynamicStackHandler stacks = stacksHandler.getStacks();
+
+      for (int i = 0; i < stacks.getSlots(); i++) {
+        ItemStack stack = stacks.getStackInSlot(i);
+
+        if (stack.isEmpty()) {
+          continue;
+        }
+
+        if (stack.is(ItemTags.FREEZE_IMMUNE_WEARABLES)) {
+          abilities |= FREEZE_IMMUNE;
+        }
+        ICurio curio = stacks.getCurio(i);
+
+        if (curio == null) {
+          continue;
+        }
+        abilities |= ENDER_MASK;
+
+        if (stack.is(CuriosTags.DYNAMIC_ABILITIES)) {
+          abilities |= DYNAMIC;
+          continue;
+        }
+        SlotContext slotContext = stacksHandler.getSlotContext(livingEntity, i, false);
+
+        if (curio.makesPiglinsNeutral(slotContext)) {
+          abilities |= PIGLIN_NEUTRAL;
+        }
+
+        if (curio.canWalkOnPowderedSnow(slotContext)) {
+          abilities |= POWDER_SNOW_WALKER;
+        }
+      }
+    }
+    return abilities;
+  }
+}
@@ -20,6 +20,7 @@
 
 package top.theillusivec4.curios.common.capability;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -30,8 +31,10 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.NonNullList;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -41,6 +44,7 @@ import net.minecraft.world.item.ItemStack;
 import net.neoforged.neoforge.common.util.INBTSerializable;
 import top.theillusivec4.curios.api.CuriosApi;
 import top.theillusivec4.curios.api.SlotContext;
+import top.theillusivec4.curios.api.SlotIds;
 import top.theillusivec4.curios.api.type.ISlotType;
 import top.theillusivec4.curios.api.type.capability.ICurio;
 import top.theillusivec4.curios.api.type.capability.ICuriosItemHandler;
@@ -48,19 +52,33 @@ import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
 import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
 import top.theillusivec4.curios.common.data.CuriosEntityManager;
 import top.theillusivec4.curios.common.inventory.CurioStacksHandler;
+import top.theillusivec4.curios.common.jfr.InventoryInitEvent;
 
 public class CurioInventory implements INBTSerializable<CompoundTag> {
 
   final Map<String, ICurioStacksHandler> curios = new LinkedHashMap<>();
+  final Map<String, ICurioStacksHandler> curiosView = Collections.unmodifiableMap(this.curios);
+  ICurioStacksHandler[] curiosById = new ICurioStacksHandler[0];
   ICuriosItemHandler curiosItemHandler;
   NonNullList<ItemStack> invalidStacks = NonNullList.create();
   Set<ICurioStacksHandler> updates = new HashSet<>();
   CompoundTag deserialized = new CompoundTag();
   boolean markDeserialized = false;
+  boolean hasCachedModifiers = false;
+  int modifierBatchDepth = 0;
+  boolean slotModifiersChanged = false;
+  final CurioAbilities abilities = new CurioAbilities();
+  int revalidatedGeneration = CurioRevalidator.getGeneration();
+  boolean farFromPlayers = false;
 
   public void init(final ICuriosItemHandler curiosItemHandler) {
+    InventoryInitEvent initEvent = new InventoryInitEvent();
+    initEvent.begin();
+    boolean deserialize = this.markDeserialized;
+    int invalidStacks = this.invalidStacks.size();
     this.curiosItemHandler = curiosItemHandler;
     this.curios.clear();
+    this.curiosById = new ICurioStacksHandler[0];
     LivingEntity livingEntity = curiosItemHandler.getWearer();
 
     if (!this.markDeserialized) {
@@ -71,7 +89,7 @@ public class CurioInventory implements INBTSerializable<CompoundTag> {
         this.curios.put(slotType.getIdentifier(),
             new CurioStacksHandler(curiosItemHandler, slotType.getIdentifier(), slotType.getSize(),
                 slotType.useNativeGui(), slotType.hasCosmetic(), slotType.canToggleRendering(),
-                slotType.getDropRule()));
+                slotType.getDropRule(), slotType.getTickInterval()));
       }
     } else {
       this.markDeserialized = false;
@@ -85,7 +103,8 @@ public class CurioInventory implements INBTSerializable<CompoundTag> {
         sortedCurios.put(slotType,
             new CurioStacksHandler(curiosItemHandler, slotType.getIdentifier(),
                 slotType.getSize(), slotType.useNativeGui(), slotType.hasCosmetic(),
-                slotType.canToggleRendering(), slotType.getDropRule()));
+                slotType.canToggleRendering(), slotType.getDropRule(),
+                slotType.getTickInterval()));
       }
 
       for (int i = 0; i < tagList.size(); i++) {
@@ -101,7 +120,8 @@ public class CurioInventory implements INBTSerializable<CompoundTag> {
           CurioStacksHandler newStacksHandler =
               new CurioStacksHandler(curiosItemHandler, slotType.getIdentifier(),
                   slotType.getSize(), slotType.useNativeGui(), slotType.hasCosmetic(),
-                  slotType.canToggleRendering(), slotType.getDropRule());
+                  slotType.canToggleRendering(), slotType.getDropRule(),
+                  slotType.getTickInterval());
           newStacksHandler.copyModifiers(prevStacksHandler);
           int index = 0;
 
@@ -117,13 +137,13 @@ public class CurioInventory implements INBTSerializable<CompoundTag> {
                 this.curiosItemHandler.loseInvalidStack(prevStack);
               }
             }
-            ItemStack prevCosmetic = prevStacksHandler.getCosmeticStacks().getStackInSlot(index);
+            ItemStack prevCosmetic = prevStacksHandler.hasCosmeticStacks() ?
+                prevStacksHandler.getCosmeticStacks().getStackInSlot(index) : ItemStack.EMPTY;
 
             if (!prevCosmetic.isEmpty()) {
 
               if (newStacksHandler.getStacks().isItemValid(index, prevCosmetic)) {
-                newStacksHandler.getCosmeticStacks().setStackInSlot(index,
-                    prevStacksHandler.getCosmeticStacks().getStackInSlot(index));
+                newStacksHandler.getCosmeticStacks().setStackInSlot(index, prevCosmetic);
               } else {
                 this.curiosItemHandler.loseInvalidStack(prevCosmetic);
               }
@@ -134,8 +154,11 @@ public class CurioInventory implements INBTSerializable<CompoundTag> {
           while (index < prevStacksHandler.getSlots()) {
             this.curiosItemHandler.loseInvalidStack(
                 prevStacksHandler.getStacks().getStackInSlot(index));
-            this.curiosItemHandler.loseInvalidStack(
-                prevStacksHandler.getCosmeticStacks().getStackInSlot(index));
+
+            if (prevStacksHandler.hasCosmeticStacks()) {
+              this.curiosItemHandler.loseInvalidStack(
+                  prevStacksHandler.getCosmeticStacks().getStackInSlot(index));
+            }
             index++;
           }
           sortedCurios.put(slotType, newStacksHandler);
@@ -150,7 +173,8 @@ public class CurioInventory implements INBTSerializable<CompoundTag> {
 
         if (optionalType.isEmpty()) {
           IDynamicStackHandler stackHandler = prevStacksHandler.getStacks();
-          IDynamicStackHandler cosmeticStackHandler = prevStacksHandler.getCosmeticStacks();
+          IDynamicStackHandler cosmeticStackHandler =
+              prevStacksHandler.hasCosmeticStacks() ? prevStacksHandler.getCosmeticStacks() : null;
 
           for (int j = 0; j < stackHandler.getSlots(); j++) {
             ItemStack stack = stackHandler.getStackInSlot(j);
@@ -159,7 +183,9 @@ public class CurioInventory implements INBTSerializable<CompoundTag> {
               this.curiosItemHandler.loseInvalidStack(stack);
             }
 
-            ItemStack cosmeticStack = cosmeticStackHandler.getStackInSlot(j);
+            ItemStack cosmeticStack =
+                cosmeticStackHandler != null ? cosmeticStackHandler.getStackInSlot(j) :
+                    ItemStack.EMPTY;
 
             if (!cosmeticStack.isEmpty()) {
               this.curiosItemHandler.loseInvalidStack(cosmeticStack);
@@ -171,6 +197,26 @@ public class CurioInventory implements INBTSerializable<CompoundTag> {
           (slotType, stacksHandler) -> curios.put(slotType.getIdentifier(), stacksHandler));
       this.curios.putAll(curios);
       this.deserialized = new CompoundTag();
+
+      for (ICurioStacksHandler stacksHandler : this.curios.values()) {
+
+        if (!stacksHandler.getCachedModifiers().isEmpty()) {
+          this.hasCachedModifiers = true;
+          break;
+        }
+      }
+    }
+    this.updateIndex();
+    this.revalidatedGeneration = CurioRevalidator.getGeneration();
+    initEvent.end();
+
+    if (initEvent.shouldCommit()) {
+      initEvent.entityType = livingEntity != null ?
+          BuiltInRegistries.ENTITY_TYPE.getKey(livingEntity.getType()).toString() : "";
+      initEvent.slotTypes = this.curios.size();
+      initEvent.deserialized = deserialize;
+      initEvent.invalidStacks = this.invalidStacks.size() - invalidStacks;
+      initEvent.commit();
     }
   }
 
@@ -178,9 +224,42 @@ public class CurioInventory implements INBTSerializable<CompoundTag> {
     return this.curios;
   }
 
+  @Nullable
+  public ICurioStacksHandler get(int slotId) {
+    ICurioStacksHandler[] byId = this.curiosById;
+    return slotId >= 0 && slotId < byId.length ? byId[slotId] : null;
+  }
+
+  @Nullable
+  public ICurioStacksHandler get(String identifier) {
+    ICurioStacksHandler stacksHandler = this.get(SlotIds.findId(identifier));
+    // Identifiers interned after the index was built are only found in the map
+    return stacksHandler != null ? stacksHandler : this.curios.get(identifier);
+  }
+
   public void replace(Map<String, ICurioStacksHandler> curios) {
     this.curios.clear();
     this.curios.putAll(curios);
+    this.updateIndex();
+  }
+
+  private void updateIndex() {
+    int size = 0;
+
+    for (String identifier : this.curios.keySet()) {
+      size = Math.max(size, SlotIds.findId(identifier) + 1);
+    }
+    ICurioStacksHandler[] byId = new ICurioStacksHandler[size];
+
+    for (Map.Entry<String, ICurioStacksHandler> entry : this.curios.entrySet()) {
+      int slotId = SlotIds.findId(entry.getKey());
+
+      if (slotId >= 0) {
+        byId[slotId] = entry.getValue();
+      }
+    }
+    this.curiosById = byId;
+    this.abilities.markDirty();
   }
 
   @Override
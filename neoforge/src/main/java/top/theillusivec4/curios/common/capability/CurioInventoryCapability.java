@@ -25,8 +25,8 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -49,6 +49,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.storage.loot.LootContext;
+import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.items.IItemHandlerModifiable;
 import net.neoforged.neoforge.items.ItemHandlerHelper;
 import net.neoforged.neoforge.items.ItemStackHandler;
@@ -57,10 +58,15 @@ import top.theillusivec4.curios.api.CuriosApi;
 import top.theillusivec4.curios.api.SlotAttribute;
 import top.theillusivec4.curios.api.SlotContext;
 import top.theillusivec4.curios.api.SlotResult;
+import top.theillusivec4.curios.api.event.SlotModifiersUpdatedEvent;
+import top.theillusivec4.curios.api.type.ICuriosMenu;
+import top.theillusivec4.curios.api.type.capability.ICurio;
 import top.theillusivec4.curios.api.type.capability.ICuriosItemHandler;
 import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
 import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
 import top.theillusivec4.curios.common.CuriosRegistry;
+import top.theillusivec4.curios.common.inventory.CurioStacksHandler;
+import top.theillusivec4.curios.mixin.CuriosImplMixinHooks;
 
 public class CurioInventoryCapability implements ICuriosItemHandler {
   final CurioInventory curioInventory;
@@ -75,6 +81,20 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
     }
   }
 
+  public static CurioInventoryCapability get(final LivingEntity livingEntity) {
+    CurioInventory curioInventory = livingEntity.getData(CuriosRegistry.INVENTORY.get());
+
+    if (curioInventory.curiosItemHandler instanceof CurioInventoryCapability capability &&
+        capability.livingEntity == livingEntity) {
+
+      if (curioInventory.markDeserialized) {
+        capability.reset();
+      }
+      return capability;
+    }
+    return new CurioInventoryCapability(livingEntity);
+  }
+
   @Override
   public void reset() {
     this.curioInventory.init(this);
@@ -105,7 +125,12 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
 
   @Override
   public Optional<ICurioStacksHandler> getStacksHandler(String identifier) {
-    return Optional.ofNullable(this.curioInventory.asMap().get(identifier));
+    return Optional.ofNullable(this.curioInventory.get(identifier));
+  }
+
+  @Override
+  public Optional<ICurioStacksHandler> getStacksHandler(int slotId) {
+    return Optional.ofNullable(this.curioInventory.get(slotId));
   }
 
   @Override
@@ -155,9 +180,8 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
         ItemStack stack = stackHandler.getStackInSlot(i);
 
         if (!stack.isEmpty() && filter.test(stack)) {
-          NonNullList<Boolean> renderStates = stacksHandler.getRenders();
-          return Optional.of(new SlotResult(new SlotContext(id, this.livingEntity, i, false,
-              renderStates.size() > i && renderStates.get(i)), stack));
+          return Optional.of(
+              new SlotResult(stacksHandler.getSlotContext(this.livingEntity, i, false), stack));
         }
       }
     }
@@ -182,9 +206,8 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
         ItemStack stack = stackHandler.getStackInSlot(i);
 
         if (!stack.isEmpty() && filter.test(stack)) {
-          NonNullList<Boolean> renderStates = stacksHandler.getRenders();
-          result.add(new SlotResult(new SlotContext(id, this.livingEntity, i, false,
-              renderStates.size() > i && renderStates.get(i)), stack));
+          result.add(
+              new SlotResult(stacksHandler.getSlotContext(this.livingEntity, i, false), stack));
         }
       }
     }
@@ -207,9 +230,8 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
           ItemStack stack = stackHandler.getStackInSlot(i);
 
           if (!stack.isEmpty()) {
-            NonNullList<Boolean> renderStates = stacksHandler.getRenders();
-            result.add(new SlotResult(new SlotContext(id, this.livingEntity, i, false,
-                renderStates.size() > i && renderStates.get(i)), stack));
+            result.add(
+                new SlotResult(stacksHandler.getSlotContext(this.livingEntity, i, false), stack));
           }
         }
       }
@@ -229,19 +251,75 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
         ItemStack stack = stackHandler.getStackInSlot(index);
 
         if (!stack.isEmpty()) {
-          NonNullList<Boolean> renderStates = stacksHandler.getRenders();
           return Optional.of(new SlotResult(
-              new SlotContext(identifier, this.livingEntity, index, false,
-                  renderStates.size() > index && renderStates.get(index)), stack));
+              stacksHandler.getSlotContext(this.livingEntity, index, false), stack));
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Optional<SlotResult> findEquipTarget(ItemStack stack) {
+    ICurio curio = stack.isEmpty() ? null : CuriosApi.getCurio(stack).orElse(null);
+
+    if (curio == null) {
+      return Optional.empty();
+    }
+    List<ICurioStacksHandler> candidates = this.getEquipCandidates(stack);
+
+    for (ICurioStacksHandler stacksHandler : candidates) {
+      IDynamicStackHandler stackHandler = stacksHandler.getStacks();
+
+      for (int i = stackHandler.nextEmptySlot(0); i != -1; i = stackHandler.nextEmptySlot(i + 1)) {
+        SlotContext slotContext = stacksHandler.getSlotContext(this.livingEntity, i, false);
+
+        if (stackHandler.isItemValid(i, stack) && curio.canEquipFromUse(slotContext)) {
+          return Optional.of(new SlotResult(slotContext, ItemStack.EMPTY));
+        }
+      }
+    }
+
+    for (ICurioStacksHandler stacksHandler : candidates) {
+      IDynamicStackHandler stackHandler = stacksHandler.getStacks();
+
+      for (int i = 0; i < stackHandler.getSlots(); i++) {
+        ItemStack present = stackHandler.getStackInSlot(i);
+        SlotContext slotContext = stacksHandler.getSlotContext(this.livingEntity, i, false);
+
+        // Stacks used up in place may leave a slot empty without being tracked as empty
+        if (stackHandler.isItemValid(i, stack) && curio.canEquipFromUse(slotContext) &&
+            (present.isEmpty() ||
+                stackHandler.extractItem(i, stack.getMaxStackSize(), true).getCount() ==
+                    stack.getCount())) {
+          return Optional.of(new SlotResult(slotContext, present));
         }
       }
     }
     return Optional.empty();
   }
 
+  private List<ICurioStacksHandler> getEquipCandidates(ItemStack stack) {
+    List<ICurioStacksHandler> result = new ArrayList<>();
+    Set<String> validSlots = CuriosApi.getItemStackSlots(stack, this.livingEntity).keySet();
+    boolean generic = validSlots.contains("curio");
+
+    for (Map.Entry<String, ICurioStacksHandler> entry : this.getCurios().entrySet()) {
+      String identifier = entry.getKey();
+      ICurioStacksHandler stacksHandler = entry.getValue();
+
+      if (generic || validSlots.contains(identifier) || (identifier.equals("curio") &&
+          CuriosApi.isStackValid(stacksHandler.getSlotContext(this.livingEntity, 0, false),
+              stack))) {
+        result.add(stacksHandler);
+      }
+    }
+    return result;
+  }
+
   @Override
   public Map<String, ICurioStacksHandler> getCurios() {
-    return Collections.unmodifiableMap(this.curioInventory.asMap());
+    return this.curioInventory.curiosView;
   }
 
   @Override
@@ -303,18 +381,20 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
   @Override
   public int getFortuneLevel(@Nullable LootContext lootContext) {
     int fortuneLevel = 0;
-    for (Map.Entry<String, ICurioStacksHandler> entry : getCurios().entrySet()) {
-      IDynamicStackHandler stacks = entry.getValue().getStacks();
+    for (ICurioStacksHandler stacksHandler : this.curioInventory.asMap().values()) {
+      IDynamicStackHandler stacks = stacksHandler.getStacks();
 
       for (int i = 0; i < stacks.getSlots(); i++) {
-        final int index = i;
-        fortuneLevel += CuriosApi.getCurio(stacks.getStackInSlot(i)).map(
-            curio -> {
-              NonNullList<Boolean> renderStates = entry.getValue().getRenders();
-              return curio.getFortuneLevel(
-                  new SlotContext(entry.getKey(), this.livingEntity, index, false,
-                      renderStates.size() > index && renderStates.get(index)), lootContext);
-            }).orElse(0);
+        ItemStack stack = stacks.getStackInSlot(i);
+
+        if (!stack.isEmpty()) {
+          ICurio curio = stacks.getCurio(i);
+
+          if (curio != null) {
+            fortuneLevel += curio.getFortuneLevel(
+                stacksHandler.getSlotContext(this.livingEntity, i, false), lootContext);
+          }
+        }
       }
     }
     return fortuneLevel;
@@ -323,20 +403,21 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
   @Override
   public int getLootingLevel(DamageSource source, LivingEntity target, int baseLooting) {
     int lootingLevel = 0;
-    for (Map.Entry<String, ICurioStacksHandler> entry : getCurios().entrySet()) {
-      IDynamicStackHandler stacks = entry.getValue().getStacks();
+    for (ICurioStacksHandler stacksHandler : this.curioInventory.asMap().values()) {
+      IDynamicStackHandler stacks = stacksHandler.getStacks();
 
       for (int i = 0; i < stacks.getSlots(); i++) {
-        int index = i;
-        lootingLevel += CuriosApi.getCurio(stacks.getStackInSlot(i)).map(
-                curio -> {
-                  NonNullList<Boolean> renderStates = entry.getValue().getRenders();
-                  return curio.getLootingLevel(
-                      new SlotContext(entry.getKey(), this.livingEntity, index, false,
-                          renderStates.size() > index && renderStates.get(index)), source, target,
-                      baseLooting);
-                })
-            .orElse(0);
+        ItemStack stack = stacks.getStackInSlot(i);
+
+        if (!stack.isEmpty()) {
+          ICurio curio = stacks.getCurio(i);
+
+          if (curio != null) {
+            lootingLevel += curio.getLootingLevel(
+                stacksHandler.getSlotContext(this.livingEntity, i, false), source, target,
+                baseLooting);
+          }
+        }
       }
     }
     return lootingLevel;
@@ -350,9 +431,13 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
       CompoundTag tag = new CompoundTag();
       ICurioStacksHandler stacksHandler = entry.getValue();
       IDynamicStackHandler stacks = stacksHandler.getStacks();
-      IDynamicStackHandler cosmetics = stacksHandler.getCosmeticStacks();
+      IDynamicStackHandler cosmetics =
+          stacksHandler.hasCosmeticStacks() ? stacksHandler.getCosmeticStacks() : null;
       tag.put("Stacks", stacks.serializeNBT(this.livingEntity.level().registryAccess()));
-      tag.put("Cosmetics", cosmetics.serializeNBT(this.livingEntity.level().registryAccess()));
+
+      if (cosmetics != null) {
+        tag.put("Cosmetics", cosmetics.serializeNBT(this.livingEntity.level().registryAccess()));
+      }
       tag.putString("Identifier", entry.getKey());
       taglist.add(tag);
 
@@ -362,7 +447,7 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
           stacks.setStackInSlot(i, ItemStack.EMPTY);
         }
 
-        for (int i = 0; i < cosmetics.getSlots(); i++) {
+        for (int i = 0; cosmetics != null && i < cosmetics.getSlots(); i++) {
           cosmetics.setStackInSlot(i, ItemStack.EMPTY);
         }
       }
@@ -378,7 +463,7 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
       for (int i = 0; i < data.size(); i++) {
         CompoundTag tag = data.getCompound(i);
         String identifier = tag.getString("Identifier");
-        ICurioStacksHandler stacksHandler = this.curioInventory.asMap().get(identifier);
+        ICurioStacksHandler stacksHandler = this.curioInventory.get(identifier);
 
         if (stacksHandler != null) {
           CompoundTag stacksData = tag.getCompound("Stacks");
@@ -401,6 +486,38 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
     }
   }
 
+  @Override
+  public void markStacksChanged() {
+    this.curioInventory.abilities.markDirty();
+  }
+
+  /**
+   * @return The {@link CurioAbilities} flags of the equipped curios
+   */
+  public int getAbilities() {
+    return this.curioInventory.abilities.get(this.curioInventory, this.livingEntity);
+  }
+
+  /**
+   * @return True if the wearer was out of the LOD distance of every player when last checked
+   */
+  public boolean isFarFromPlayers() {
+    return this.curioInventory.farFromPlayers;
+  }
+
+  public void setFarFromPlayers(boolean farFromPlayers) {
+    this.curioInventory.farFromPlayers = farFromPlayers;
+  }
+
+  /**
+   * Revalidates the equipped stacks if tags have changed since the last check.
+   *
+   * @see CurioRevalidator
+   */
+  public void revalidateStacks() {
+    CurioRevalidator.revalidate(this.curioInventory, this, this.livingEntity);
+  }
+
   @Override
   public Set<ICurioStacksHandler> getUpdatingInventories() {
     return this.curioInventory.updates;
@@ -416,18 +533,20 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
 
   @Override
   public void addTransientSlotModifiers(Multimap<String, AttributeModifier> modifiers) {
+    this.batchSlotModifiers(() -> {
 
-    for (Map.Entry<String, Collection<AttributeModifier>> entry : modifiers.asMap().entrySet()) {
-      String id = entry.getKey();
+      for (Map.Entry<String, Collection<AttributeModifier>> entry : modifiers.asMap().entrySet()) {
+        String id = entry.getKey();
 
-      for (AttributeModifier attributeModifier : entry.getValue()) {
-        ICurioStacksHandler stacksHandler = this.curioInventory.asMap().get(id);
+        for (AttributeModifier attributeModifier : entry.getValue()) {
+          ICurioStacksHandler stacksHandler = this.curioInventory.get(id);
 
-        if (stacksHandler != null) {
-          stacksHandler.addTransientModifier(attributeModifier);
+          if (stacksHandler != null) {
+            stacksHandler.addTransientModifier(attributeModifier);
+          }
         }
       }
-    }
+    });
   }
 
   @Override
@@ -440,18 +559,20 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
 
   @Override
   public void addPermanentSlotModifiers(Multimap<String, AttributeModifier> modifiers) {
+    this.batchSlotModifiers(() -> {
 
-    for (Map.Entry<String, Collection<AttributeModifier>> entry : modifiers.asMap().entrySet()) {
-      String id = entry.getKey();
+      for (Map.Entry<String, Collection<AttributeModifier>> entry : modifiers.asMap().entrySet()) {
+        String id = entry.getKey();
 
-      for (AttributeModifier attributeModifier : entry.getValue()) {
-        ICurioStacksHandler stacksHandler = this.curioInventory.asMap().get(id);
+        for (AttributeModifier attributeModifier : entry.getValue()) {
+          ICurioStacksHandler stacksHandler = this.curioInventory.get(id);
 
-        if (stacksHandler != null) {
-          stacksHandler.addPermanentModifier(attributeModifier);
+          if (stacksHandler != null) {
+            stacksHandler.addPermanentModifier(attributeModifier);
+          }
         }
       }
-    }
+    });
   }
 
   @Override
@@ -463,30 +584,116 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
 
   @Override
   public void removeSlotModifiers(Multimap<String, AttributeModifier> modifiers) {
+    this.batchSlotModifiers(() -> {
 
-    for (Map.Entry<String, Collection<AttributeModifier>> entry : modifiers.asMap().entrySet()) {
-      String id = entry.getKey();
+      for (Map.Entry<String, Collection<AttributeModifier>> entry : modifiers.asMap().entrySet()) {
+        String id = entry.getKey();
 
-      for (AttributeModifier attributeModifier : entry.getValue()) {
-        ICurioStacksHandler stacksHandler = this.curioInventory.asMap().get(id);
+        for (AttributeModifier attributeModifier : entry.getValue()) {
+          ICurioStacksHandler stacksHandler = this.curioInventory.get(id);
 
-        if (stacksHandler != null) {
-          stacksHandler.removeModifier(attributeModifier.id());
+          if (stacksHandler != null) {
+            stacksHandler.removeModifier(attributeModifier.id());
+          }
         }
       }
-    }
+    });
   }
 
   @Override
   public void clearSlotModifiers() {
+    this.batchSlotModifiers(() -> {
 
-    for (Map.Entry<String, ICurioStacksHandler> entry : this.curioInventory.asMap().entrySet()) {
-      entry.getValue().clearModifiers();
+      for (ICurioStacksHandler stacksHandler : this.curioInventory.asMap().values()) {
+        stacksHandler.clearModifiers();
+      }
+    });
+  }
+
+  @Override
+  public void batchSlotModifiers(Runnable action) {
+    this.beginSlotModifierBatch();
+
+    try {
+      action.run();
+    } finally {
+      this.endSlotModifierBatch();
+    }
+  }
+
+  /**
+   * Starts a batch of slot modifier changes like
+   * {@link CurioInventoryCapability#batchSlotModifiers(Runnable)}, without capturing the changes
+   * in an action. Every call must be followed by a call to
+   * {@link CurioInventoryCapability#endSlotModifierBatch()}.
+   */
+  public void beginSlotModifierBatch() {
+    this.curioInventory.modifierBatchDepth++;
+  }
+
+  /**
+   * Ends a batch of slot modifier changes started by
+   * {@link CurioInventoryCapability#beginSlotModifierBatch()}.
+   */
+  public void endSlotModifierBatch() {
+    this.curioInventory.modifierBatchDepth--;
+
+    if (this.curioInventory.modifierBatchDepth == 0) {
+      this.updateSlotModifiers();
+    }
+  }
+
+  @Override
+  public boolean isBatchingSlotModifiers() {
+    return this.curioInventory.modifierBatchDepth > 0;
+  }
+
+  /**
+   * Flags that the slot modifiers of a stacks handler changed, so that the handlers are checked
+   * for resizing when the current batch of slot modifier changes ends.
+   */
+  public void markSlotModifiersChanged() {
+    this.curioInventory.slotModifiersChanged = true;
+  }
+
+  private void updateSlotModifiers() {
+
+    if (!this.curioInventory.slotModifiersChanged) {
+      return;
+    }
+    this.curioInventory.slotModifiersChanged = false;
+    Set<String> resized = new LinkedHashSet<>();
+
+    for (ICurioStacksHandler stacksHandler : this.curioInventory.asMap().values()) {
+
+      if (stacksHandler instanceof CurioStacksHandler curioStacksHandler) {
+
+        if (curioStacksHandler.updateSize()) {
+          resized.add(curioStacksHandler.getIdentifier());
+        }
+      } else {
+        stacksHandler.update();
+      }
+    }
+    LivingEntity wearer = this.getWearer();
+
+    if (!resized.isEmpty() && wearer != null) {
+      NeoForge.EVENT_BUS.post(new SlotModifiersUpdatedEvent(wearer, resized));
+
+      if (wearer instanceof Player player &&
+          player.containerMenu instanceof ICuriosMenu curiosMenu) {
+        curiosMenu.resetSlots();
+      }
     }
   }
 
   @Override
   public void clearCachedSlotModifiers() {
+
+    if (!this.curioInventory.hasCachedModifiers) {
+      return;
+    }
+    this.curioInventory.hasCachedModifiers = false;
     Multimap<String, AttributeModifier> slots = HashMultimap.create();
 
     for (Map.Entry<String, ICurioStacksHandler> entry : this.curioInventory.asMap().entrySet()) {
@@ -495,18 +702,15 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
 
       if (!modifiers.isEmpty()) {
         IDynamicStackHandler stacks = stacksHandler.getStacks();
-        NonNullList<Boolean> renderStates = stacksHandler.getRenders();
-        String id = entry.getKey();
 
         for (int i = 0; i < stacks.getSlots(); i++) {
           ItemStack stack = stacks.getStackInSlot(i);
 
           if (!stack.isEmpty()) {
-            SlotContext slotContext = new SlotContext(id, this.getWearer(), i, false,
-                renderStates.size() > i && renderStates.get(i));
+            SlotContext slotContext = stacksHandler.getSlotContext(this.getWearer(), i, false);
             UUID uuid = CuriosApi.getSlotUuid(slotContext);
             Multimap<Holder<Attribute>, AttributeModifier> map =
-                CuriosApi.getAttributeModifiers(slotContext, uuid, stack);
+                CuriosImplMixinHooks.getCachedAttributeModifiers(slotContext, uuid, stack);
 
             for (Holder<Attribute> attribute : map.keySet()) {
 
@@ -521,7 +725,7 @@ public class CurioInventoryCapability implements ICuriosItemHandler {
 
     for (Map.Entry<String, Collection<AttributeModifier>> entry : slots.asMap().entrySet()) {
       String id = entry.getKey();
-      ICurioStacksHandler stacksHandler = this.curioInventory.asMap().get(id);
+      ICurioStacksHandler stacksHandler = this.curioInventory.get(id);
 
       if (stacksHandler != null) {
 
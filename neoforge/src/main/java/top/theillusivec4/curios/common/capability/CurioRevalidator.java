@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.capability;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.api.type.capability.ICuriosItemHandler;
+import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
+import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
+import top.theillusivec4.curios.common.util.ChangeHistory;
+
+/**
+ * Revalidates equipped stacks on the server after a tag reload changes which items are in
+ * {@code curios} item tags.
+ * <br>
+ * Only changes to tags in the {@code curios} namespace are detected, so stacks that become invalid
+ * through other tags or through validators that do not read tags are not removed until their slot
+ * is next checked.
+ * <br>
+ * Each reload that changes tag memberships starts a new generation with the set of changed items.
+ * Inventories catch up to the current generation from the entity tick, checking only stacks of
+ * changed items, and at most {@link CurioRevalidator#INVENTORIES_PER_TICK} inventories catch up
+ * per server tick so that a reload with many entities is spread over several ticks. Inventories
+ * that fall too many generations behind check every stack.
+ * <br>
+ * The generation and its history are published together as an immutable snapshot, so they can be
+ * read from any thread, but revalidation itself only runs on the server thread.
+ */
+public final class CurioRevalidator {
+
+  public static final int INVENTORIES_PER_TICK = 16;
+  private static final int HISTORY = 8;
+
+  private static volatile State state = State.INITIAL;
+  private static int budget = INVENTORIES_PER_TICK;
+
+  public static int getGeneration() {
+    return state.history().getGeneration();
+  }
+
+  /**
+   * Takes a snapshot of the {@code curios} item tags and, if a previous snapshot exists, starts a
+   * new generation with the items whose memberships changed.
+   */
+  public static synchronized void updateTags() {
+    State previousState = state;
+    Map<Item, Set<TagKey<Item>>> current = snapshot();
+    Map<Item, Set<TagKey<Item>>> previous = previousState.memberships();
+
+    if (previous == null) {
+      state = new State(previousState.history(), current);
+      return;
+    }
+    Set<Item> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    for (Map.Entry<Item, Set<TagKey<Item>>> entry : current.entrySet()) {
+
+      if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+        changed.add(entry.getKey());
+      }
+    }
+
+    for (Item item : previous.keySet()) {
+
+      if (!current.containsKey(item)) {
+        changed.add(item);
+      }
+    }
+
+    state = new State(changed.isEmpty() ? previousState.history() :
+        previousState.history().record(changed), current);
+  }
+
+  public static void resetBudget() {
+    budget = INVENTORIES_PER_TICK;
+  }
+
+  /**
+   * Discards the tag snapshot, the generation and its history together, such as when the server
+   * stops.
+   */
+  public static synchronized void reset() {
+    state = State.INITIAL;
+  }
+
+  /**
+   * Revalidates the equipped stacks of an inventory that is behind the current generation, if the
+   * budget for this tick allows it. Invalid stacks are removed and passed to
+   * {@link ICuriosItemHandler#loseInvalidStack(ItemStack)}.
+   *
+   * @param curioInventory The inventory
+   * @param handler        The handler of the inventory
+   * @param livingEntity   The wearer of the inventory
+   */
+  static void revalidate(CurioInventory curioInventory, ICuriosItemHandler handler,
+                         LivingEntity livingEntity) {
+    ChangeHistory<Item> history = state.history();
+    int from = curioInventory.revalidatedGeneration;
+
+    if (from == history.getGeneration() || budget <= 0) {
+      return;
+    }
+    budget--;
+    curioInventory.revalidatedGeneration = history.getGeneration();
+    Set<Item> changed = history.getChangesSince(from);
+
+    for (ICurioStacksHandler stacksHandler : curioInventory.asMap().values()) {
+      revalidate(stacksHandler, stacksHandler.getStacks(), handler, livingEntity, changed);
+
+      if (stacksHandler.hasCosmeticStacks()) {
+        revalidate(stacksHandler, stacksHandler.getCosmeticStacks(), handler, livingEntity,
+            changed);
+      }
+    }
+  }
+
+  private static void revalidate(ICurioStacksHandler stacksHandler, IDynamicStackHandler stacks,
+                                 ICuriosItemHandler handler, LivingEntity livingEntity,
+                                 @Nullable Set<Item> changed) {
+
+    for (int i = 0; i < stacks.getSlots(); i++) {
+      ItemStack stack = stacks.getStackInSlot(i);
+
+      if (stack.isEmpty() || (changed != null && !changed.contains(stack.getItem()))) {
+        continue;
+      }
+
+      if (!CuriosApi.isStackValid(stacksHandler.getSlotContext(livingEntity, i, false), stack)) {
+        stacks.setStackInSlot(i, ItemStack.EMPTY);
+        handler.loseInvalidStack(stack);
+      }
+    }
+  }
+
+  private static Map<Item, Set<TagKey<Item>>> snapshot() {
+    Map<Item, Set<TagKey<Item>>> result = new IdentityHashMap<>();
+
+    BuiltInRegistries.ITEM.getTags().forEach(pair -> {
+      TagKey<Item> tagKey = pair.getFirst();
+
+      if (Objects.equals(tagKey.location().getNamespace(), CuriosApi.MODID)) {
+
+        for (Holder<Item> holder : pair.getSecond()) {
+          result.computeIfAbsent(holder.value(), k -> new HashSet<>()).add(tagKey);
+        }
+      }
+    });
+    return result;
+  }
+
+  private record State(ChangeHistory<Item> history,
+                       @Nullable Map<Item, Set<TagKey<Item>>> memberships) {
+
+    static final State INITIAL = new State(ChangeHistory.create(HISTORY), null);
+  }
+}
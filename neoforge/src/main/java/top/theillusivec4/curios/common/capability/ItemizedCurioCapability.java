@@ -57,6 +57,11 @@ public class ItemizedCurioCapability implements ICurio {
     this.curioItem.curioTick(slotContext, this.getStack());
   }
 
+  @Override
+  public boolean canTick(SlotContext slotContext) {
+    return this.curioItem.canTick(slotContext, this.getStack());
+  }
+
   @Override
   public boolean canEquip(SlotContext slotContext) {
     return this.curioItem.canEquip(slotContext, this.getStack());
@@ -54,6 +54,7 @@ import net.minecraft.world.entity.EntityType;
 import net.neoforged.neoforge.common.conditions.ICondition;
 import top.theillusivec4.curios.CuriosConstants;
 import top.theillusivec4.curios.api.type.ISlotType;
+import top.theillusivec4.curios.common.jfr.DataReloadEvent;
 import top.theillusivec4.curios.common.slottype.LegacySlotManager;
 
 public class CuriosEntityManager extends SimpleJsonResourceReloadListener {
@@ -79,6 +80,8 @@ public class CuriosEntityManager extends SimpleJsonResourceReloadListener {
   protected void apply(Map<ResourceLocation, JsonElement> pObject,
                        @Nonnull ResourceManager pResourceManager,
                        @Nonnull ProfilerFiller pProfiler) {
+    DataReloadEvent reloadEvent = new DataReloadEvent();
+    reloadEvent.begin();
     Map<EntityType<?>, ImmutableMap.Builder<String, ISlotType>> map = new HashMap<>();
     Map<String, ImmutableSet.Builder<String>> modMap = new HashMap<>();
     Map<ResourceLocation, JsonElement> sorted = new LinkedHashMap<>();
@@ -148,6 +151,14 @@ public class CuriosEntityManager extends SimpleJsonResourceReloadListener {
     this.idToMods = modMap.entrySet().stream()
         .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
     CuriosConstants.LOG.info("Loaded {} curio entities", map.size());
+    reloadEvent.end();
+
+    if (reloadEvent.shouldCommit()) {
+      reloadEvent.manager = "entities";
+      reloadEvent.files = sorted.size();
+      reloadEvent.entries = this.entitySlots.size();
+      reloadEvent.commit();
+    }
   }
 
   public static ListTag getSyncPacket() {
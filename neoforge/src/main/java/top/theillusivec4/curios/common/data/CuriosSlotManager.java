@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeSet;
 import javax.annotation.Nonnull;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -52,11 +53,16 @@ import net.neoforged.neoforge.common.conditions.ICondition;
 import org.apache.commons.lang3.EnumUtils;
 import top.theillusivec4.curios.CuriosConstants;
 import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.api.SlotIds;
 import top.theillusivec4.curios.api.type.ISlotType;
 import top.theillusivec4.curios.api.type.capability.ICurio;
 import top.theillusivec4.curios.common.CuriosConfig;
+import top.theillusivec4.curios.common.inventory.DynamicStackHandler;
+import top.theillusivec4.curios.common.jfr.DataReloadEvent;
+import top.theillusivec4.curios.common.slottype.ItemSlotIndex;
 import top.theillusivec4.curios.common.slottype.LegacySlotManager;
 import top.theillusivec4.curios.common.slottype.SlotType;
+import top.theillusivec4.curios.common.slottype.SlotValidators;
 
 public class CuriosSlotManager extends SimpleJsonResourceReloadListener {
 
@@ -82,6 +88,8 @@ public class CuriosSlotManager extends SimpleJsonResourceReloadListener {
   protected void apply(@Nonnull Map<ResourceLocation, JsonElement> pObject,
                        @Nonnull ResourceManager pResourceManager,
                        @Nonnull ProfilerFiller pProfiler) {
+    DataReloadEvent reloadEvent = new DataReloadEvent();
+    reloadEvent.begin();
     Map<String, SlotType.Builder> map = new HashMap<>();
     Map<String, ImmutableSet.Builder<String>> modMap = new HashMap<>();
     Map<ResourceLocation, JsonElement> sorted = new LinkedHashMap<>();
@@ -175,9 +183,22 @@ public class CuriosSlotManager extends SimpleJsonResourceReloadListener {
     }
     this.slots = map.entrySet().stream()
         .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
+    SlotIds.internAll(new TreeSet<>(this.slots.keySet()));
+    SlotValidators.compileAll(this.slots.values(),
+        (this == CLIENT ? SERVER : CLIENT).getSlots().values());
+    ItemSlotIndex.rebuild(this == CLIENT);
+    DynamicStackHandler.invalidateVerdicts(this == CLIENT);
     this.idToMods = modMap.entrySet().stream()
         .collect(ImmutableMap.toImmutableMap(Map.Entry::getKey, entry -> entry.getValue().build()));
     CuriosConstants.LOG.info("Loaded {} curio slots", map.size());
+    reloadEvent.end();
+
+    if (reloadEvent.shouldCommit()) {
+      reloadEvent.manager = "slots";
+      reloadEvent.files = sorted.size();
+      reloadEvent.entries = this.slots.size();
+      reloadEvent.commit();
+    }
   }
 
   public Map<String, ISlotType> getSlots() {
@@ -208,6 +229,10 @@ public class CuriosSlotManager extends SimpleJsonResourceReloadListener {
       }
     }
     CLIENT.slots = map.build();
+    SlotIds.internAll(new TreeSet<>(CLIENT.slots.keySet()));
+    SlotValidators.compileAll(CLIENT.slots.values(), SERVER.getSlots().values());
+    ItemSlotIndex.rebuild(true);
+    DynamicStackHandler.invalidateVerdicts(true);
   }
 
   public void setIcons(Map<String, ResourceLocation> icons) {
@@ -286,6 +311,12 @@ public class CuriosSlotManager extends SimpleJsonResourceReloadListener {
       Boolean nativeGui =
           entry.containsKey("use_native_gui") ? Boolean.parseBoolean(entry.get("use_native_gui")) :
               null;
+      Integer tickInterval =
+          entry.containsKey("tick_interval") ? Integer.parseInt(entry.get("tick_interval")) : null;
+
+      if (tickInterval != null && tickInterval < 1) {
+        throw new IllegalArgumentException("Tick interval cannot be less than 1!");
+      }
 
       if (order != null) {
         builder.order(order, replace);
@@ -314,6 +345,10 @@ public class CuriosSlotManager extends SimpleJsonResourceReloadListener {
       if (toggle != null) {
         builder.renderToggle(toggle, replace);
       }
+
+      if (tickInterval != null) {
+        builder.tickInterval(tickInterval, replace);
+      }
     }
     return results;
   }
@@ -346,6 +381,12 @@ public class CuriosSlotManager extends SimpleJsonResourceReloadListener {
     Boolean jsonNative =
         jsonObject.has("use_native_gui") ? GsonHelper.getAsBoolean(jsonObject, "use_native_gui") :
             null;
+    Integer jsonTickInterval =
+        jsonObject.has("tick_interval") ? GsonHelper.getAsInt(jsonObject, "tick_interval") : null;
+
+    if (jsonTickInterval != null && jsonTickInterval < 1) {
+      throw new IllegalArgumentException("Tick interval cannot be less than 1!");
+    }
     JsonArray jsonSlotResultPredicate = jsonObject.has("validators") ?
         GsonHelper.getAsJsonArray(jsonObject, "validators") : null;
 
@@ -377,6 +418,10 @@ public class CuriosSlotManager extends SimpleJsonResourceReloadListener {
       builder.renderToggle(jsonToggle, replace);
     }
 
+    if (jsonTickInterval != null) {
+      builder.tickInterval(jsonTickInterval, replace);
+    }
+
     if (jsonSlotResultPredicate != null) {
 
       for (JsonElement jsonElement : jsonSlotResultPredicate) {
@@ -43,6 +43,7 @@ public class SlotData implements ISlotData {
   private ResourceLocation icon;
   private ICurio.DropRule dropRule;
   private Boolean renderToggle;
+  private Integer tickInterval;
   private Boolean replace;
   private List<ICondition> conditions;
   private Set<ResourceLocation> validators;
@@ -89,6 +90,12 @@ public class SlotData implements ISlotData {
     return this;
   }
 
+  @Override
+  public SlotData tickInterval(int tickInterval) {
+    this.tickInterval = tickInterval;
+    return this;
+  }
+
   @Override
   public SlotData icon(ResourceLocation icon) {
     this.icon = icon;
@@ -161,6 +168,10 @@ public class SlotData implements ISlotData {
       jsonObject.addProperty("render_toggle", this.renderToggle);
     }
 
+    if (this.tickInterval != null) {
+      jsonObject.addProperty("tick_interval", this.tickInterval);
+    }
+
     if (this.conditions != null) {
       ICondition.writeConditions(provider, jsonObject, this.conditions);
     }
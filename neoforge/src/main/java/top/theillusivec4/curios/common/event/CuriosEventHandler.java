@@ -21,12 +21,12 @@
 package top.theillusivec4.curios.common.event;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -34,9 +34,12 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import net.minecraft.core.Holder;
 import net.minecraft.core.NonNullList;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -64,6 +67,7 @@ import net.neoforged.bus.api.EventPriority;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.OnDatapackSyncEvent;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import net.neoforged.neoforge.event.entity.EntityEvent;
 import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
 import net.neoforged.neoforge.event.entity.living.EnderManAngerEvent;
@@ -75,10 +79,13 @@ import net.neoforged.neoforge.event.entity.player.PlayerInteractEvent;
 import net.neoforged.neoforge.event.entity.player.PlayerXpEvent;
 import net.neoforged.neoforge.event.level.BlockDropsEvent;
 import net.neoforged.neoforge.event.tick.EntityTickEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
 import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.api.CuriosCapability;
 import top.theillusivec4.curios.api.SlotAttribute;
 import top.theillusivec4.curios.api.SlotContext;
+import top.theillusivec4.curios.api.SlotResult;
 import top.theillusivec4.curios.api.event.CurioChangeEvent;
 import top.theillusivec4.curios.api.event.CurioDropsEvent;
 import top.theillusivec4.curios.api.event.DropRulesEvent;
@@ -91,20 +98,36 @@ import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
 import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
 import top.theillusivec4.curios.common.CuriosConfig;
 import top.theillusivec4.curios.common.CuriosRegistry;
+import top.theillusivec4.curios.common.capability.CurioAbilities;
+import top.theillusivec4.curios.common.capability.CurioInventoryCapability;
+import top.theillusivec4.curios.common.capability.CurioRevalidator;
 import top.theillusivec4.curios.common.data.CuriosEntityManager;
 import top.theillusivec4.curios.common.data.CuriosSlotManager;
+import top.theillusivec4.curios.common.inventory.DynamicStackHandler;
 import top.theillusivec4.curios.common.inventory.container.CuriosContainer;
+import top.theillusivec4.curios.common.jfr.CurioEquipEvent;
+import top.theillusivec4.curios.common.jfr.CurioTickEvent;
 import top.theillusivec4.curios.common.network.server.SPacketSetIcons;
+import top.theillusivec4.curios.common.network.server.sync.SPacketSyncBatch;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncCurios;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncData;
-import top.theillusivec4.curios.common.network.server.sync.SPacketSyncModifiers;
-import top.theillusivec4.curios.common.network.server.sync.SPacketSyncStack;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncStack.HandlerType;
+import top.theillusivec4.curios.common.slottype.ItemSlotIndex;
+import top.theillusivec4.curios.mixin.CuriosImplMixinHooks;
+import top.theillusivec4.curios.mixin.CuriosUtilMixinHooks;
+import top.theillusivec4.curios.server.CuriosProfiler;
+import top.theillusivec4.curios.server.CuriosProfiler.Phase;
 
 public class CuriosEventHandler {
 
   public static boolean dirtyTags = false;
 
+  private static ListTag syncedSlots = null;
+  private static ListTag syncedEntities = null;
+
+  // Reused by every server-side entity tick, as the sync packet copies the entries it is given
+  private final List<SPacketSyncBatch.Entry> syncs = new ArrayList<>();
+
   private static void handleDrops(String identifier, LivingEntity livingEntity,
                                   List<Tuple<Predicate<ItemStack>, DropRule>> dropRules,
                                   NonNullList<Boolean> renders, IDynamicStackHandler stacks,
@@ -125,7 +148,7 @@ public class CuriosEventHandler {
           }
         }
         DropRule dropRule = dropRuleOverride != null ? dropRuleOverride :
-            CuriosApi.getCurio(stack).map(curio -> curio
+            Optional.ofNullable(stacks.getCurio(i)).map(curio -> curio
                 .getDropRule(slotContext, evt.getSource(), evt.getLootingLevel(),
                     evt.isRecentlyHit())).orElse(DropRule.DEFAULT);
 
@@ -172,6 +195,7 @@ public class CuriosEventHandler {
         int toRepair = Math.min(orb.value * 2, stack.getDamageValue());
         orb.value -= toRepair / 2;
         stack.setDamageValue(stack.getDamageValue() - toRepair);
+        stacks.markChanged(i);
 
         if (orb.value > 0) {
           player.giveExperiencePoints(orb.value);
@@ -200,12 +224,17 @@ public class CuriosEventHandler {
 
     if (evt.getPlayer() == null) {
       PlayerList playerList = evt.getPlayerList();
+      ListTag slots = CuriosSlotManager.getSyncPacket();
+      ListTag entities = CuriosEntityManager.getSyncPacket();
+      // Equipped stacks are revalidated incrementally after tag changes, so inventories only need
+      // to be rebuilt if slot or entity data changed
+      boolean rebuild = !slots.equals(syncedSlots) || !entities.equals(syncedEntities);
+      syncedSlots = slots;
+      syncedEntities = entities;
 
       for (ServerPlayer player : playerList.getPlayers()) {
-        PacketDistributor.sendToPlayer(player,
-            new SPacketSyncData(CuriosSlotManager.getSyncPacket(),
-                CuriosEntityManager.getSyncPacket()));
-        CuriosApi.getCuriosInventory(player).ifPresent(handler -> {
+        PacketDistributor.sendToPlayer(player, new SPacketSyncData(slots, entities));
+        CuriosApi.getCuriosInventory(player).filter(handler -> rebuild).ifPresent(handler -> {
           Tag tag = handler.writeTag();
 
           for (Map.Entry<String, ICurioStacksHandler> entry : handler.getCurios().entrySet()) {
@@ -213,7 +242,10 @@ public class CuriosEventHandler {
 
             for (int i = 0; i < stacks.getSlots(); i++) {
               stacks.getStacks().setStackInSlot(i, ItemStack.EMPTY);
-              stacks.getCosmeticStacks().setStackInSlot(i, ItemStack.EMPTY);
+
+              if (stacks.hasCosmeticStacks()) {
+                stacks.getCosmeticStacks().setStackInSlot(i, ItemStack.EMPTY);
+              }
             }
           }
           handler.readTag(tag);
@@ -241,7 +273,10 @@ public class CuriosEventHandler {
 
           for (int i = 0; i < stacks.getSlots(); i++) {
             stacks.getStacks().setStackInSlot(i, ItemStack.EMPTY);
-            stacks.getCosmeticStacks().setStackInSlot(i, ItemStack.EMPTY);
+
+            if (stacks.hasCosmeticStacks()) {
+              stacks.getCosmeticStacks().setStackInSlot(i, ItemStack.EMPTY);
+            }
           }
         }
         handler.readTag(tag);
@@ -272,7 +307,10 @@ public class CuriosEventHandler {
 
           for (int i = 0; i < stacks.getSlots(); i++) {
             stacks.getStacks().setStackInSlot(i, ItemStack.EMPTY);
-            stacks.getCosmeticStacks().setStackInSlot(i, ItemStack.EMPTY);
+
+            if (stacks.hasCosmeticStacks()) {
+              stacks.getCosmeticStacks().setStackInSlot(i, ItemStack.EMPTY);
+            }
           }
         }
         inv.readTag(tag);
@@ -346,8 +384,11 @@ public class CuriosEventHandler {
         curios.forEach((id, stacksHandler) -> {
           handleDrops(id, livingEntity, dropRules, stacksHandler.getRenders(),
               stacksHandler.getStacks(), false, curioDrops, finalKeepInventory, evt);
-          handleDrops(id, livingEntity, dropRules, stacksHandler.getRenders(),
-              stacksHandler.getCosmeticStacks(), true, curioDrops, finalKeepInventory, evt);
+
+          if (stacksHandler.hasCosmeticStacks()) {
+            handleDrops(id, livingEntity, dropRules, stacksHandler.getRenders(),
+                stacksHandler.getCosmeticStacks(), true, curioDrops, finalKeepInventory, evt);
+          }
         });
         CurioDropsEvent dropsEvent = NeoForge.EVENT_BUS.post(
             new CurioDropsEvent(livingEntity, handler, evt.getSource(), curioDrops,
@@ -369,8 +410,9 @@ public class CuriosEventHandler {
         Map<String, ICurioStacksHandler> curios = handler.getCurios();
         for (ICurioStacksHandler stacksHandler : curios.values()) {
 
-          if (handleMending(player, stacksHandler.getStacks(), evt) || handleMending(player,
-              stacksHandler.getCosmeticStacks(), evt)) {
+          if (handleMending(player, stacksHandler.getStacks(), evt) ||
+              (stacksHandler.hasCosmeticStacks() &&
+                  handleMending(player, stacksHandler.getCosmeticStacks(), evt))) {
             return;
           }
         }
@@ -384,56 +426,28 @@ public class CuriosEventHandler {
     ItemStack stack = evt.getItemStack();
     CuriosApi.getCurio(stack).ifPresent(
         curio -> CuriosApi.getCuriosInventory(player).ifPresent(handler -> {
-          Map<String, ICurioStacksHandler> curios = handler.getCurios();
-          Tuple<IDynamicStackHandler, SlotContext> firstSlot = null;
+          Optional<SlotResult> target = handler.findEquipTarget(stack);
 
-          for (Map.Entry<String, ICurioStacksHandler> entry : curios.entrySet()) {
-            IDynamicStackHandler stackHandler = entry.getValue().getStacks();
-
-            for (int i = 0; i < stackHandler.getSlots(); i++) {
-              String id = entry.getKey();
-              NonNullList<Boolean> renderStates = entry.getValue().getRenders();
-              SlotContext slotContext = new SlotContext(id, player, i, false,
-                  renderStates.size() > i && renderStates.get(i));
-
-              if (stackHandler.isItemValid(i, stack) && curio.canEquipFromUse(slotContext)) {
-                ItemStack present = stackHandler.getStackInSlot(i);
-
-                if (present.isEmpty()) {
-                  stackHandler.setStackInSlot(i, stack.copy());
-                  curio.onEquipFromUse(slotContext);
-
-                  if (!player.isCreative()) {
-                    int count = stack.getCount();
-                    stack.shrink(count);
-                  }
-                  evt.setCancellationResult(
-                      InteractionResult.sidedSuccess(player.level().isClientSide()));
-                  evt.setCanceled(true);
-                  return;
-                } else if (firstSlot == null) {
-
-                  if (stackHandler.extractItem(i, stack.getMaxStackSize(), true).getCount() ==
-                      stack.getCount()) {
-                    firstSlot = new Tuple<>(stackHandler, slotContext);
-                  }
-                }
-              }
-            }
+          if (target.isEmpty()) {
+            return;
           }
+          SlotContext slotContext = target.get().slotContext();
+          ItemStack present = target.get().stack();
+          handler.setEquippedCurio(slotContext.identifier(), slotContext.index(), stack.copy());
+          curio.onEquipFromUse(slotContext);
 
-          if (firstSlot != null) {
-            IDynamicStackHandler stackHandler = firstSlot.getA();
-            SlotContext slotContext = firstSlot.getB();
-            int i = slotContext.index();
-            ItemStack present = stackHandler.getStackInSlot(i);
-            stackHandler.setStackInSlot(i, stack.copy());
-            curio.onEquipFromUse(slotContext);
+          if (present.isEmpty()) {
+
+            if (!player.isCreative()) {
+              int count = stack.getCount();
+              stack.shrink(count);
+            }
+          } else {
             player.setItemInHand(evt.getHand(), present.copy());
-            evt.setCancellationResult(
-                InteractionResult.sidedSuccess(player.level().isClientSide()));
-            evt.setCanceled(true);
           }
+          evt.setCancellationResult(
+              InteractionResult.sidedSuccess(player.level().isClientSide()));
+          evt.setCanceled(true);
         }));
   }
 
@@ -458,10 +472,8 @@ public class CuriosEventHandler {
           IDynamicStackHandler stacks = entry.getValue().getStacks();
 
           for (int i = 0; i < stacks.getSlots(); i++) {
-            NonNullList<Boolean> renderStates = entry.getValue().getRenders();
-            SlotContext slotContext = new SlotContext(entry.getKey(), livingEntity, i, false,
-                renderStates.size() > i && renderStates.get(i));
-            fortuneLevel.addAndGet(CuriosApi.getCurio(stacks.getStackInSlot(i)).map(
+            SlotContext slotContext = entry.getValue().getSlotContext(livingEntity, i, false);
+            fortuneLevel.addAndGet(Optional.ofNullable(stacks.getCurio(i)).map(
                     curio -> curio.getFortuneLevel(slotContext, null))
                 .orElse(0));
           }
@@ -477,23 +489,39 @@ public class CuriosEventHandler {
     }
   }
 
+  @SubscribeEvent
+  public void tagsUpdated(TagsUpdatedEvent evt) {
+    CurioAbilities.invalidateAll();
+    DynamicStackHandler.invalidateTickingSlots();
+
+    if (dirtyTags &&
+        evt.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+      dirtyTags = false;
+      CurioRevalidator.updateTags();
+    }
+    boolean clientSide =
+        evt.getUpdateCause() == TagsUpdatedEvent.UpdateCause.CLIENT_PACKET_RECEIVED;
+    DynamicStackHandler.invalidateVerdicts(clientSide);
+    ItemSlotIndex.rebuild(clientSide);
+  }
+
   @SubscribeEvent
   public void enderManAnger(final EnderManAngerEvent evt) {
     Player player = evt.getPlayer();
     CuriosApi.getCuriosInventory(player).ifPresent(handler -> {
 
+      if (!CuriosUtilMixinHooks.hasAbility(handler, CurioAbilities.ENDER_MASK)) {
+        return;
+      }
+
       all:
       for (Map.Entry<String, ICurioStacksHandler> entry : handler.getCurios().entrySet()) {
         IDynamicStackHandler stacks = entry.getValue().getStacks();
 
         for (int i = 0; i < stacks.getSlots(); i++) {
-          final int index = i;
-          NonNullList<Boolean> renderStates = entry.getValue().getRenders();
-          boolean hasMask =
-              CuriosApi.getCurio(stacks.getStackInSlot(i)).map(curio -> curio
-                      .isEnderMask(new SlotContext(entry.getKey(), player, index, false,
-                          renderStates.size() > index && renderStates.get(index)), evt.getEntity()))
-                  .orElse(false);
+          SlotContext slotContext = entry.getValue().getSlotContext(player, i, false);
+          boolean hasMask = Optional.ofNullable(stacks.getCurio(i))
+              .map(curio -> curio.isEnderMask(slotContext, evt.getEntity())).orElse(false);
 
           if (hasMask) {
             evt.setCanceled(true);
@@ -504,6 +532,12 @@ public class CuriosEventHandler {
     });
   }
 
+  @SubscribeEvent
+  public void serverTick(ServerTickEvent.Pre evt) {
+    CurioRevalidator.resetBudget();
+    DynamicStackHandler.invalidateVerdicts(false);
+  }
+
   @SubscribeEvent
   public void tick(EntityTickEvent.Post evt) {
     Entity entity = evt.getEntity();
@@ -513,140 +547,355 @@ public class CuriosEventHandler {
           player.containerMenu instanceof CuriosContainer curiosContainer) {
         curiosContainer.checkQuickMove();
       }
+      ICuriosItemHandler handler = livingEntity.getCapability(CuriosCapability.INVENTORY);
 
-      CuriosApi.getCuriosInventory(livingEntity).ifPresent(handler -> {
+      if (handler != null && !skipTick(livingEntity, handler)) {
+        CurioTickEvent tickEvent = CurioTickEvent.isTypeEnabled() ? new CurioTickEvent() : null;
+
+        if (tickEvent != null) {
+          tickEvent.begin();
+        }
+        boolean clientSide = livingEntity.level().isClientSide();
+        CurioInventoryCapability inventory =
+            handler instanceof CurioInventoryCapability capability ? capability : null;
         handler.clearCachedSlotModifiers();
+
+        if (!clientSide && inventory != null) {
+          inventory.revalidateStacks();
+        }
         handler.handleInvalidStacks();
         Map<String, ICurioStacksHandler> curios = handler.getCurios();
+        int lodInterval = inventory != null && inventory.isFarFromPlayers() ?
+            CuriosConfig.SERVER.lodInterval.get() : 1;
+        boolean fullCheck = !clientSide &&
+            (livingEntity.tickCount + livingEntity.getId()) %
+                CuriosConfig.SERVER.changeCheckInterval.get() == 0;
+        List<SPacketSyncBatch.Entry> syncs = clientSide ? List.of() : this.syncs;
+
+        if (inventory != null) {
+          inventory.beginSlotModifierBatch();
+        }
 
-        for (Map.Entry<String, ICurioStacksHandler> entry : curios.entrySet()) {
-          ICurioStacksHandler stacksHandler = entry.getValue();
-          String identifier = entry.getKey();
-          IDynamicStackHandler stackHandler = stacksHandler.getStacks();
-          IDynamicStackHandler cosmeticStackHandler = stacksHandler.getCosmeticStacks();
-
-          for (int i = 0; i < stacksHandler.getSlots(); i++) {
-            NonNullList<Boolean> renderStates = stacksHandler.getRenders();
-            SlotContext slotContext = new SlotContext(identifier, livingEntity, i, false,
-                renderStates.size() > i && renderStates.get(i));
-            ItemStack stack = stackHandler.getStackInSlot(i);
-            Optional<ICurio> currentCurio = CuriosApi.getCurio(stack);
-            final int index = i;
-
-            if (!stack.isEmpty()) {
-              stack.inventoryTick(livingEntity.level(), livingEntity, -1, false);
-              currentCurio.ifPresent(curio -> curio.curioTick(slotContext));
-
-              if (livingEntity.level().isClientSide) {
-                currentCurio.ifPresent(
-                    curio -> curio.curioAnimate(identifier, index, livingEntity));
-              }
-            }
+        try {
 
-            if (!livingEntity.level().isClientSide) {
-              ItemStack prevStack = stackHandler.getPreviousStackInSlot(i);
-
-              if (!ItemStack.matches(stack, prevStack)) {
-                Optional<ICurio> prevCurio = CuriosApi.getCurio(prevStack);
-                syncCurios(livingEntity, stack, currentCurio, prevCurio, identifier, index, false,
-                    renderStates.size() > index && renderStates.get(index), HandlerType.EQUIPMENT);
-                NeoForge.EVENT_BUS
-                    .post(new CurioChangeEvent(livingEntity, identifier, i, prevStack, stack));
-                UUID uuid = CuriosApi.getSlotUuid(slotContext);
-                AttributeMap attributeMap = livingEntity.getAttributes();
-
-                if (!prevStack.isEmpty()) {
-                  Multimap<Holder<Attribute>, AttributeModifier> map =
-                      CuriosApi.getAttributeModifiers(slotContext, uuid, prevStack);
-                  Multimap<String, AttributeModifier> slots = HashMultimap.create();
-                  Set<Holder<Attribute>> toRemove = new HashSet<>();
-
-                  for (Holder<Attribute> attribute : map.keySet()) {
-
-                    if (attribute.value() instanceof SlotAttribute wrapper) {
-                      slots.putAll(wrapper.getIdentifier(), map.get(attribute));
-                      toRemove.add(attribute);
-                    }
-                  }
-
-                  for (Holder<Attribute> attribute : toRemove) {
-                    map.removeAll(attribute);
-                  }
-                  map.forEach((key, value) -> {
-                    AttributeInstance attInst = attributeMap.getInstance(key);
-
-                    if (attInst != null) {
-                      attInst.removeModifier(value);
-                    }
-                  });
-                  handler.removeSlotModifiers(slots);
-                  prevCurio.ifPresent(curio -> curio.onUnequip(slotContext, stack));
-                }
-
-                if (!stack.isEmpty()) {
-                  Multimap<Holder<Attribute>, AttributeModifier> map =
-                      CuriosApi.getAttributeModifiers(slotContext, uuid, stack);
-                  Multimap<String, AttributeModifier> slots = HashMultimap.create();
-                  Set<Holder<Attribute>> toRemove = new HashSet<>();
-
-                  for (Holder<Attribute> attribute : map.keySet()) {
-
-                    if (attribute.value() instanceof SlotAttribute wrapper) {
-                      slots.putAll(wrapper.getIdentifier(), map.get(attribute));
-                      toRemove.add(attribute);
-                    }
-                  }
-
-                  for (Holder<Attribute> attribute : toRemove) {
-                    map.removeAll(attribute);
-                  }
-                  map.forEach((key, value) -> {
-                    AttributeInstance attInst = attributeMap.getInstance(key);
-
-                    if (attInst != null) {
-                      attInst.addOrUpdateTransientModifier(value);
-                    }
-                  });
-                  handler.addTransientSlotModifiers(slots);
-                  currentCurio.ifPresent(curio -> curio.onEquip(slotContext, prevStack));
-
-                  if (livingEntity instanceof ServerPlayer) {
-                    CuriosRegistry.EQUIP_TRIGGER.get()
-                        .trigger(slotContext, (ServerPlayer) livingEntity, stack);
-                  }
-                }
-                stackHandler.setPreviousStackInSlot(i, stack.copy());
-              }
-              ItemStack cosmeticStack = cosmeticStackHandler.getStackInSlot(i);
-              ItemStack prevCosmeticStack = cosmeticStackHandler.getPreviousStackInSlot(i);
-
-              if (!ItemStack.matches(cosmeticStack, prevCosmeticStack)) {
-                syncCurios(livingEntity, cosmeticStack,
-                    CuriosApi.getCurio(cosmeticStack),
-                    CuriosApi.getCurio(prevCosmeticStack), identifier, index, true,
-                    true, HandlerType.COSMETIC);
-                cosmeticStackHandler.setPreviousStackInSlot(index, cosmeticStack.copy());
-              }
-            }
+          for (Map.Entry<String, ICurioStacksHandler> entry : curios.entrySet()) {
+            tickStacks(livingEntity, handler, entry.getKey(), entry.getValue(), clientSide,
+                fullCheck, lodInterval, syncs);
+          }
+        } finally {
+
+          if (inventory != null) {
+            inventory.endSlotModifierBatch();
           }
         }
 
-        if (!livingEntity.level().isClientSide()) {
+        if (!clientSide) {
           Set<ICurioStacksHandler> updates = handler.getUpdatingInventories();
 
-          if (!updates.isEmpty()) {
+          if (!syncs.isEmpty() || !updates.isEmpty()) {
             PacketDistributor.sendToPlayersTrackingEntityAndSelf(livingEntity,
-                new SPacketSyncModifiers(livingEntity.getId(), updates));
+                new SPacketSyncBatch(livingEntity.getId(), syncs, updates));
+            syncs.clear();
             updates.clear();
           }
         }
-      });
+
+        if (tickEvent != null) {
+          tickEvent.end();
+
+          if (tickEvent.shouldCommit()) {
+            tickEvent.entityType = BuiltInRegistries.ENTITY_TYPE.getKey(livingEntity.getType())
+                .toString();
+            tickEvent.clientSide = clientSide;
+            tickEvent.commit();
+          }
+        }
+      }
+    }
+  }
+
+  private static void tickStacks(LivingEntity livingEntity, ICuriosItemHandler handler,
+                                 String identifier, ICurioStacksHandler stacksHandler,
+                                 boolean clientSide, boolean fullCheck, int lodInterval,
+                                 List<SPacketSyncBatch.Entry> syncs) {
+    IDynamicStackHandler stackHandler = stacksHandler.getStacks();
+    IDynamicStackHandler cosmeticStackHandler =
+        stacksHandler.hasCosmeticStacks() ? stacksHandler.getCosmeticStacks() : null;
+    int tickInterval = stacksHandler.getTickInterval();
+    int ticks = livingEntity.tickCount + livingEntity.getId();
+
+    if (lodInterval > 1) {
+      // Entities updated at a reduced rate only tick on multiples of the LOD interval, so the tick
+      // interval is counted in those updates to avoid compounding both intervals
+      ticks /= lodInterval;
+      tickInterval = (tickInterval + lodInterval - 1) / lodInterval;
+    }
+
+    if (tickInterval <= 1 || ticks % tickInterval == 0) {
+
+      for (int i : stackHandler.getTickingSlots()) {
+
+        if (i >= stackHandler.getSlots()) {
+          break;
+        }
+        ItemStack stack = stackHandler.getStackInSlot(i);
+
+        if (!stack.isEmpty()) {
+          ICurio curio = stackHandler.getCurio(i);
+          int count = stack.getCount();
+          int writes = CuriosUtilMixinHooks.getComponentWrites(stack);
+          CuriosProfiler.push();
+          stack.inventoryTick(livingEntity.level(), livingEntity, -1, false);
+          CuriosProfiler.pop(Phase.INVENTORY_TICK, identifier, stack);
+
+          if (curio != null) {
+            CuriosProfiler.push();
+            curio.curioTick(stacksHandler.getSlotContext(livingEntity, i, false));
+            CuriosProfiler.pop(Phase.CURIO_TICK, identifier, stack);
+
+            if (clientSide) {
+              curio.curioAnimate(identifier, i, livingEntity);
+            }
+          }
+
+          if (stack.getCount() != count ||
+              CuriosUtilMixinHooks.getComponentWrites(stack) != writes) {
+            stackHandler.markChanged(i);
+          }
+        }
+      }
+    }
+
+    if (!clientSide) {
+
+      if (fullCheck) {
+
+        for (int i = 0; i < stacksHandler.getSlots(); i++) {
+          handleEquipmentChange(livingEntity, handler, stacksHandler, stackHandler, i, syncs);
+
+          if (cosmeticStackHandler != null) {
+            handleCosmeticChange(livingEntity, identifier, cosmeticStackHandler, i, syncs);
+          }
+        }
+      } else {
+
+        for (int i = stackHandler.nextChangedSlot(0); i >= 0;
+             i = stackHandler.nextChangedSlot(i + 1)) {
+          handleEquipmentChange(livingEntity, handler, stacksHandler, stackHandler, i, syncs);
+        }
+
+        if (cosmeticStackHandler != null) {
+
+          for (int i = cosmeticStackHandler.nextChangedSlot(0); i >= 0;
+               i = cosmeticStackHandler.nextChangedSlot(i + 1)) {
+            handleCosmeticChange(livingEntity, identifier, cosmeticStackHandler, i, syncs);
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean skipTick(LivingEntity livingEntity, ICuriosItemHandler handler) {
+
+    if (livingEntity instanceof Player || livingEntity.level().isClientSide() ||
+        !(handler instanceof CurioInventoryCapability inventory) || handler.getCurios().isEmpty()) {
+      return false;
+    }
+    int interval = CuriosConfig.SERVER.lodInterval.get();
+
+    if (interval <= 1) {
+      return false;
+    } else if ((livingEntity.tickCount + livingEntity.getId()) % interval == 0) {
+      // Players are only searched for once per interval, and the result is reused until the next
+      int distance = CuriosConfig.SERVER.lodDistance.get();
+      inventory.setFarFromPlayers(
+          livingEntity.level().getNearestPlayer(livingEntity, distance) == null);
+      return false;
+    }
+    return inventory.isFarFromPlayers();
+  }
+
+  private static void handleEquipmentChange(LivingEntity livingEntity, ICuriosItemHandler handler,
+                                            ICurioStacksHandler stacksHandler,
+                                            IDynamicStackHandler stackHandler, int index,
+                                            List<SPacketSyncBatch.Entry> syncs) {
+
+    if (index >= stackHandler.getSlots()) {
+      return;
+    }
+    CuriosProfiler.push();
+    stackHandler.clearChanged(index);
+    ItemStack stack = stackHandler.getStackInSlot(index);
+    ItemStack prevStack = stackHandler.getPreviousStackInSlot(index);
+    String identifier = stacksHandler.getIdentifier();
+    boolean matches = ItemStack.matches(stack, prevStack);
+    CuriosProfiler.pop(Phase.CHANGE_DETECTION, identifier, stack);
+
+    if (matches) {
+      return;
+    }
+    // The stack may have changed in place without being flagged, so its curio is resolved again
+    stackHandler.invalidateCurio(index);
+    handler.markStacksChanged();
+    CurioEquipEvent equipEvent = new CurioEquipEvent();
+    equipEvent.begin();
+    SlotContext slotContext = stacksHandler.getSlotContext(livingEntity, index, false);
+    ICurio currentCurio = stackHandler.getCurio(index);
+    ICurio prevCurio = prevStack.getCapability(CuriosCapability.ITEM);
+    syncCurios(syncs, livingEntity, stack, currentCurio, prevCurio, identifier, index, false,
+        slotContext.visible(), HandlerType.EQUIPMENT);
+    NeoForge.EVENT_BUS
+        .post(new CurioChangeEvent(livingEntity, identifier, index, prevStack, stack));
+    UUID uuid = CuriosApi.getSlotUuid(slotContext);
+    AttributeMap attributeMap = livingEntity.getAttributes();
+    Multimap<Holder<Attribute>, AttributeModifier> prevModifiers = prevStack.isEmpty() ?
+        ImmutableMultimap.of() :
+        CuriosImplMixinHooks.getCachedAttributeModifiers(slotContext, uuid, prevStack);
+    Multimap<Holder<Attribute>, AttributeModifier> modifiers = stack.isEmpty() ?
+        ImmutableMultimap.of() :
+        CuriosImplMixinHooks.getCachedAttributeModifiers(slotContext, uuid, stack);
+
+    if (!prevStack.isEmpty()) {
+      CuriosProfiler.push();
+      removeModifiers(handler, attributeMap, prevModifiers, modifiers);
+      CuriosProfiler.pop(Phase.ATTRIBUTES, identifier, prevStack);
+
+      if (prevCurio != null) {
+        prevCurio.onUnequip(slotContext, stack);
+      }
+    }
+
+    if (!stack.isEmpty()) {
+      CuriosProfiler.push();
+      addModifiers(handler, attributeMap, prevModifiers, modifiers);
+      CuriosProfiler.pop(Phase.ATTRIBUTES, identifier, stack);
+
+      if (currentCurio != null) {
+        currentCurio.onEquip(slotContext, prevStack);
+      }
+
+      if (livingEntity instanceof ServerPlayer) {
+        CuriosRegistry.EQUIP_TRIGGER.get()
+            .trigger(slotContext, (ServerPlayer) livingEntity, stack);
+      }
+    }
+
+    if (index < stackHandler.getSlots()) {
+      stackHandler.setPreviousStackInSlot(index, stack.copy());
+    }
+    equipEvent.end();
+
+    if (equipEvent.shouldCommit()) {
+      equipEvent.entityType =
+          BuiltInRegistries.ENTITY_TYPE.getKey(livingEntity.getType()).toString();
+      equipEvent.slot = identifier;
+      equipEvent.index = index;
+      equipEvent.item = BuiltInRegistries.ITEM.getKey(stack.getItem()).toString();
+      equipEvent.previousItem = BuiltInRegistries.ITEM.getKey(prevStack.getItem()).toString();
+      equipEvent.commit();
+    }
+  }
+
+  /**
+   * Removes the modifiers of the previous stack that are not also present, unchanged, in the
+   * modifiers of the current stack. Vanilla attribute modifiers that are only changed are left in
+   * place to be updated when the modifiers of the current stack are added.
+   */
+  private static void removeModifiers(ICuriosItemHandler handler, AttributeMap attributeMap,
+                                      Multimap<Holder<Attribute>, AttributeModifier> prevModifiers,
+                                      Multimap<Holder<Attribute>, AttributeModifier> modifiers) {
+    Multimap<String, AttributeModifier> slots = HashMultimap.create();
+
+    prevModifiers.forEach((key, value) -> {
+
+      if (modifiers.containsEntry(key, value)) {
+        return;
+      }
+
+      if (key.value() instanceof SlotAttribute wrapper) {
+        slots.put(wrapper.getIdentifier(), value);
+      } else if (!hasModifier(modifiers.get(key), value.id())) {
+        AttributeInstance attInst = attributeMap.getInstance(key);
+
+        if (attInst != null) {
+          attInst.removeModifier(value);
+        }
+      }
+    });
+
+    if (!slots.isEmpty()) {
+      handler.removeSlotModifiers(slots);
+    }
+  }
+
+  /**
+   * Adds or updates the modifiers of the current stack that are not already present, unchanged,
+   * in the modifiers of the previous stack.
+   */
+  private static void addModifiers(ICuriosItemHandler handler, AttributeMap attributeMap,
+                                   Multimap<Holder<Attribute>, AttributeModifier> prevModifiers,
+                                   Multimap<Holder<Attribute>, AttributeModifier> modifiers) {
+    Multimap<String, AttributeModifier> slots = HashMultimap.create();
+
+    modifiers.forEach((key, value) -> {
+
+      if (prevModifiers.containsEntry(key, value)) {
+        return;
+      }
+
+      if (key.value() instanceof SlotAttribute wrapper) {
+        slots.put(wrapper.getIdentifier(), value);
+      } else {
+        AttributeInstance attInst = attributeMap.getInstance(key);
+
+        if (attInst != null) {
+          attInst.addOrUpdateTransientModifier(value);
+        }
+      }
+    });
+
+    if (!slots.isEmpty()) {
+      handler.addTransientSlotModifiers(slots);
+    }
+  }
+
+  private static boolean hasModifier(Collection<AttributeModifier> modifiers, UUID id) {
+
+    for (AttributeModifier modifier : modifiers) {
+
+      if (modifier.id().equals(id)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void handleCosmeticChange(LivingEntity livingEntity, String identifier,
+                                           IDynamicStackHandler cosmeticStackHandler, int index,
+                                           List<SPacketSyncBatch.Entry> syncs) {
+
+    if (index >= cosmeticStackHandler.getSlots()) {
+      return;
+    }
+    CuriosProfiler.push();
+    cosmeticStackHandler.clearChanged(index);
+    ItemStack cosmeticStack = cosmeticStackHandler.getStackInSlot(index);
+    ItemStack prevCosmeticStack = cosmeticStackHandler.getPreviousStackInSlot(index);
+    boolean matches = ItemStack.matches(cosmeticStack, prevCosmeticStack);
+    CuriosProfiler.pop(Phase.CHANGE_DETECTION, identifier, cosmeticStack);
+
+    if (!matches) {
+      syncCurios(syncs, livingEntity, cosmeticStack,
+          cosmeticStackHandler.getCurio(index),
+          prevCosmeticStack.getCapability(CuriosCapability.ITEM), identifier, index, true, true,
+          HandlerType.COSMETIC);
+      cosmeticStackHandler.setPreviousStackInSlot(index, cosmeticStack.copy());
     }
   }
 
   @SubscribeEvent
   public void livingEquipmentChange(final LivingEquipmentChangeEvent evt) {
-    CuriosApi.getCuriosInventory(evt.getEntity()).ifPresent(inv -> {
+    CuriosApi.getCuriosInventory(evt.getEntity()).ifPresent(inv -> inv.batchSlotModifiers(() -> {
       ItemStack from = evt.getFrom();
       ItemStack to = evt.getTo();
       EquipmentSlot slot = evt.getSlot();
@@ -670,22 +919,25 @@ public class CuriosEventHandler {
         });
         inv.addTransientSlotModifiers(slots);
       }
-    });
+    }));
   }
 
-  private static void syncCurios(LivingEntity livingEntity, ItemStack stack,
-                                 Optional<ICurio> currentCurio, Optional<ICurio> prevCurio,
+  private static void syncCurios(List<SPacketSyncBatch.Entry> syncs,
+                                 LivingEntity livingEntity, ItemStack stack,
+                                 @Nullable ICurio currentCurio, @Nullable ICurio prevCurio,
                                  String identifier, int index, boolean cosmetic, boolean visible,
                                  HandlerType type) {
+    CuriosProfiler.push();
     SlotContext slotContext = new SlotContext(identifier, livingEntity, index, cosmetic, visible);
-    boolean syncable = currentCurio.map(curio -> curio.canSync(slotContext)).orElse(false) ||
-        prevCurio.map(curio -> curio.canSync(slotContext)).orElse(false);
-    CompoundTag syncTag = syncable ? currentCurio.map(curio -> {
-      CompoundTag tag = curio.writeSyncData(slotContext);
-      return tag != null ? tag : new CompoundTag();
-    }).orElse(new CompoundTag()) : new CompoundTag();
-    PacketDistributor.sendToPlayersTrackingEntityAndSelf(livingEntity,
-        new SPacketSyncStack(livingEntity.getId(), identifier, index, stack, type.ordinal(),
-            syncTag));
+    boolean syncable = (currentCurio != null && currentCurio.canSync(slotContext)) ||
+        (prevCurio != null && prevCurio.canSync(slotContext));
+    CompoundTag syncTag = syncable && currentCurio != null ?
+        currentCurio.writeSyncData(slotContext) : null;
+
+    if (syncTag == null) {
+      syncTag = new CompoundTag();
+    }
+    syncs.add(new SPacketSyncBatch.Entry(identifier, index, type.ordinal(), stack, syncTag));
+    CuriosProfiler.pop(Phase.SYNC, identifier, stack);
   }
 }
@@ -124,6 +124,15 @@ public class CurioSlot extends SlotItemHandler {
     }
   }
 
+  @Override
+  public void setChanged() {
+    super.setChanged();
+
+    if (this.getItemHandler() instanceof IDynamicStackHandler stackHandler) {
+      stackHandler.markChanged(this.getSlotIndex());
+    }
+  }
+
   @Override
   public boolean allowModification(@Nonnull Player pPlayer) {
     return true;
@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import javax.annotation.Nullable;
 import net.minecraft.core.Holder;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
@@ -54,6 +55,8 @@ import top.theillusivec4.curios.api.type.capability.ICurio;
 import top.theillusivec4.curios.api.type.capability.ICuriosItemHandler;
 import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
 import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
+import top.theillusivec4.curios.common.capability.CurioInventoryCapability;
+import top.theillusivec4.curios.mixin.CuriosImplMixinHooks;
 
 public class CurioStacksHandler implements ICurioStacksHandler {
 
@@ -69,13 +72,20 @@ public class CurioStacksHandler implements ICurioStacksHandler {
 
   private int baseSize;
   private IDynamicStackHandler stackHandler;
+  @Nullable
   private IDynamicStackHandler cosmeticStackHandler;
   private boolean visible;
   private boolean cosmetic;
   private boolean canToggleRender;
   private ICurio.DropRule dropRule;
+  private int tickInterval;
   private boolean update;
-  private NonNullList<Boolean> renderHandler;
+  private double addedSize;
+  private double multipliedBaseSize;
+  private double multipliedTotalSize = 1.0D;
+  private final RenderStates renderHandler;
+  private SlotContext[] slotContexts = new SlotContext[0];
+  private SlotContext[] cosmeticSlotContexts = new SlotContext[0];
 
   public CurioStacksHandler(ICuriosItemHandler itemHandler, String identifier) {
     this(itemHandler, identifier, 1, true, false, true, ICurio.DropRule.DEFAULT);
@@ -84,6 +94,12 @@ public class CurioStacksHandler implements ICurioStacksHandler {
   public CurioStacksHandler(ICuriosItemHandler itemHandler, String identifier, int size,
                             boolean visible, boolean cosmetic, boolean canToggleRender,
                             ICurio.DropRule dropRule) {
+    this(itemHandler, identifier, size, visible, cosmetic, canToggleRender, dropRule, 1);
+  }
+
+  public CurioStacksHandler(ICuriosItemHandler itemHandler, String identifier, int size,
+                            boolean visible, boolean cosmetic, boolean canToggleRender,
+                            ICurio.DropRule dropRule, int tickInterval) {
     this.baseSize = size;
     this.visible = visible;
     this.cosmetic = cosmetic;
@@ -91,13 +107,15 @@ public class CurioStacksHandler implements ICurioStacksHandler {
     this.identifier = identifier;
     this.canToggleRender = canToggleRender;
     this.dropRule = dropRule;
-    this.renderHandler = NonNullList.withSize(size, true);
+    this.tickInterval = tickInterval;
+    this.renderHandler = new RenderStates(size);
     this.stackHandler = new DynamicStackHandler(size,
-        (index) -> new SlotContext(identifier, itemHandler.getWearer(), index, false,
-            this.getRenders().get(index)));
-    this.cosmeticStackHandler = new DynamicStackHandler(size,
-        (index) -> new SlotContext(identifier, itemHandler.getWearer(), index, true,
-            this.getRenders().get(index)));
+        (index) -> this.getSlotContext(itemHandler.getWearer(), index, false),
+        this::onStacksChanged);
+
+    if (cosmetic) {
+      this.cosmeticStackHandler = this.createCosmeticStacks();
+    }
   }
 
   @Override
@@ -109,15 +127,83 @@ public class CurioStacksHandler implements ICurioStacksHandler {
   @Override
   public IDynamicStackHandler getCosmeticStacks() {
     this.update();
+
+    if (this.cosmeticStackHandler == null) {
+      this.cosmeticStackHandler = this.createCosmeticStacks();
+    }
     return this.cosmeticStackHandler;
   }
 
+  @Override
+  public boolean hasCosmeticStacks() {
+    return this.cosmeticStackHandler != null;
+  }
+
+  private IDynamicStackHandler createCosmeticStacks() {
+    return new DynamicStackHandler(this.stackHandler.getSlots(),
+        (index) -> this.getSlotContext(this.itemHandler.getWearer(), index, true));
+  }
+
+  private void onStacksChanged() {
+
+    if (this.itemHandler != null) {
+      this.itemHandler.markStacksChanged();
+    }
+  }
+
+  private void readCosmetics(CompoundTag tag) {
+
+    if (this.cosmeticStackHandler == null) {
+
+      if (tag.getList("Items", Tag.TAG_COMPOUND).isEmpty()) {
+        return;
+      }
+      this.cosmeticStackHandler = this.createCosmeticStacks();
+    }
+    this.cosmeticStackHandler.deserializeNBT(this.itemHandler.getWearer().registryAccess(), tag);
+  }
+
   @Override
   public NonNullList<Boolean> getRenders() {
     this.update();
     return this.renderHandler;
   }
 
+  @Override
+  public SlotContext getSlotContext(LivingEntity livingEntity, int index, boolean cosmetic) {
+    NonNullList<Boolean> renders = this.getRenders();
+    boolean visible = renders.size() > index && renders.get(index);
+    SlotContext[] contexts = cosmetic ? this.cosmeticSlotContexts : this.slotContexts;
+
+    if (index >= 0 && index < contexts.length) {
+      SlotContext slotContext = contexts[index];
+
+      if (slotContext != null && slotContext.entity() == livingEntity &&
+          slotContext.visible() == visible) {
+        return slotContext;
+      }
+    }
+    SlotContext slotContext =
+        new SlotContext(this.identifier, livingEntity, index, cosmetic, visible);
+    int size = this.getSlots();
+
+    if (index >= 0 && index < size && this.itemHandler != null &&
+        livingEntity == this.itemHandler.getWearer()) {
+
+      if (contexts.length != size) {
+        contexts = new SlotContext[size];
+
+        if (cosmetic) {
+          this.cosmeticSlotContexts = contexts;
+        } else {
+          this.slotContexts = contexts;
+        }
+      }
+      contexts[index] = slotContext;
+    }
+    return slotContext;
+  }
+
   @Override
   public boolean canToggleRendering() {
     return this.canToggleRender;
@@ -128,6 +214,11 @@ public class CurioStacksHandler implements ICurioStacksHandler {
     return this.dropRule;
   }
 
+  @Override
+  public int getTickInterval() {
+    return this.tickInterval;
+  }
+
   @Override
   public int getSlots() {
     this.update();
@@ -174,12 +265,7 @@ public class CurioStacksHandler implements ICurioStacksHandler {
     AttributeModifier newModifier =
         new AttributeModifier(LEGACY_UUID, "legacy", current,
             AttributeModifier.Operation.ADD_VALUE);
-    this.modifiers.put(newModifier.id(), newModifier);
-    Collection<AttributeModifier> modifiers =
-        this.getModifiersByOperation(newModifier.operation());
-    modifiers.remove(newModifier);
-    modifiers.add(newModifier);
-    this.persistentModifiers.remove(newModifier);
+    this.putModifier(newModifier);
     this.persistentModifiers.add(newModifier);
     this.flagUpdate();
   }
@@ -190,21 +276,13 @@ public class CurioStacksHandler implements ICurioStacksHandler {
     compoundNBT.putInt("SavedBaseSize", this.baseSize);
     compoundNBT.put("Stacks",
         this.stackHandler.serializeNBT(this.itemHandler.getWearer().registryAccess()));
-    compoundNBT.put("Cosmetics",
-        this.cosmeticStackHandler.serializeNBT(this.itemHandler.getWearer().registryAccess()));
 
-    ListTag nbtTagList = new ListTag();
-
-    for (int i = 0; i < this.renderHandler.size(); i++) {
-      CompoundTag tag = new CompoundTag();
-      tag.putInt("Slot", i);
-      tag.putBoolean("Render", this.renderHandler.get(i));
-      nbtTagList.add(tag);
+    if (this.cosmeticStackHandler != null) {
+      compoundNBT.put("Cosmetics",
+          this.cosmeticStackHandler.serializeNBT(this.itemHandler.getWearer().registryAccess()));
     }
-    CompoundTag nbt = new CompoundTag();
-    nbt.put("Renders", nbtTagList);
-    nbt.putInt("Size", this.renderHandler.size());
-    compoundNBT.put("Renders", nbt);
+
+    compoundNBT.put("Renders", this.renderHandler.save());
     compoundNBT.putBoolean("HasCosmetic", this.cosmetic);
     compoundNBT.putBoolean("Visible", this.visible);
     compoundNBT.putBoolean("RenderToggle", this.canToggleRender);
@@ -244,25 +322,11 @@ public class CurioStacksHandler implements ICurioStacksHandler {
     }
 
     if (nbt.contains("Cosmetics")) {
-      this.cosmeticStackHandler.deserializeNBT(this.itemHandler.getWearer().registryAccess(),
-          nbt.getCompound("Cosmetics"));
+      this.readCosmetics(nbt.getCompound("Cosmetics"));
     }
 
     if (nbt.contains("Renders")) {
-      CompoundTag tag = nbt.getCompound("Renders");
-      this.renderHandler = NonNullList.withSize(
-          nbt.contains("Size", Tag.TAG_INT) ? nbt.getInt("Size") : this.stackHandler.getSlots(),
-          true);
-      ListTag tagList = tag.getList("Renders", Tag.TAG_COMPOUND);
-
-      for (int i = 0; i < tagList.size(); i++) {
-        CompoundTag tags = tagList.getCompound(i);
-        int slot = tags.getInt("Slot");
-
-        if (slot >= 0 && slot < this.renderHandler.size()) {
-          this.renderHandler.set(slot, tags.getBoolean("Render"));
-        }
-      }
+      this.renderHandler.load(nbt.getCompound("Renders"), this.stackHandler.getSlots());
     }
 
     if (nbt.contains("SizeShift")) {
@@ -289,7 +353,8 @@ public class CurioStacksHandler implements ICurioStacksHandler {
         AttributeModifier attributeModifier = AttributeModifier.load(list.getCompound(i));
 
         if (attributeModifier != null) {
-          this.addPermanentModifier(attributeModifier);
+          this.putModifier(attributeModifier);
+          this.persistentModifiers.add(attributeModifier);
         }
       }
     }
@@ -302,10 +367,14 @@ public class CurioStacksHandler implements ICurioStacksHandler {
 
         if (attributeModifier != null) {
           this.cachedModifiers.add(attributeModifier);
-          this.addTransientModifier(attributeModifier);
+          this.putModifier(attributeModifier);
         }
       }
     }
+
+    if (!this.modifiers.isEmpty()) {
+      this.flagUpdate();
+    }
     this.update();
   }
 
@@ -318,25 +387,18 @@ public class CurioStacksHandler implements ICurioStacksHandler {
     CompoundTag compoundNBT = new CompoundTag();
     compoundNBT.put("Stacks",
         this.stackHandler.serializeNBT(this.itemHandler.getWearer().registryAccess()));
-    compoundNBT.put("Cosmetics",
-        this.cosmeticStackHandler.serializeNBT(this.itemHandler.getWearer().registryAccess()));
-
-    ListTag nbtTagList = new ListTag();
 
-    for (int i = 0; i < this.renderHandler.size(); i++) {
-      CompoundTag tag = new CompoundTag();
-      tag.putInt("Slot", i);
-      tag.putBoolean("Render", this.renderHandler.get(i));
-      nbtTagList.add(tag);
+    if (this.cosmeticStackHandler != null) {
+      compoundNBT.put("Cosmetics",
+          this.cosmeticStackHandler.serializeNBT(this.itemHandler.getWearer().registryAccess()));
     }
-    CompoundTag nbt = new CompoundTag();
-    nbt.put("Renders", nbtTagList);
-    nbt.putInt("Size", this.renderHandler.size());
-    compoundNBT.put("Renders", nbt);
+
+    compoundNBT.put("Renders", this.renderHandler.save());
     compoundNBT.putBoolean("HasCosmetic", this.cosmetic);
     compoundNBT.putBoolean("Visible", this.visible);
     compoundNBT.putBoolean("RenderToggle", this.canToggleRender);
     compoundNBT.putString("DropRule", this.dropRule.toString());
+    compoundNBT.putInt("TickInterval", this.tickInterval);
     compoundNBT.putInt("BaseSize", this.baseSize);
 
     if (!this.modifiers.isEmpty()) {
@@ -362,25 +424,11 @@ public class CurioStacksHandler implements ICurioStacksHandler {
     }
 
     if (tag.contains("Cosmetics")) {
-      this.cosmeticStackHandler.deserializeNBT(this.itemHandler.getWearer().registryAccess(),
-          tag.getCompound("Cosmetics"));
+      this.readCosmetics(tag.getCompound("Cosmetics"));
     }
 
     if (tag.contains("Renders")) {
-      CompoundTag compoundNBT = tag.getCompound("Renders");
-      this.renderHandler = NonNullList.withSize(
-          compoundNBT.contains("Size", Tag.TAG_INT) ? compoundNBT.getInt("Size") :
-              this.stackHandler.getSlots(), true);
-      ListTag tagList = compoundNBT.getList("Renders", Tag.TAG_COMPOUND);
-
-      for (int i = 0; i < tagList.size(); i++) {
-        CompoundTag tags = tagList.getCompound(i);
-        int slot = tags.getInt("Slot");
-
-        if (slot >= 0 && slot < this.renderHandler.size()) {
-          this.renderHandler.set(slot, tags.getBoolean("Render"));
-        }
-      }
+      this.renderHandler.load(tag.getCompound("Renders"), this.stackHandler.getSlots());
     }
 
     if (tag.contains("SizeShift")) {
@@ -399,9 +447,9 @@ public class CurioStacksHandler implements ICurioStacksHandler {
       this.dropRule =
           EnumUtils.getEnum(ICurio.DropRule.class, tag.getString("DropRule"), this.dropRule);
     }
-    this.modifiers.clear();
-    this.persistentModifiers.clear();
-    this.modifiersByOperation.clear();
+    this.tickInterval =
+        tag.contains("TickInterval") ? Math.max(1, tag.getInt("TickInterval")) : this.tickInterval;
+    this.resetModifiers();
 
     if (tag.contains("Modifiers", 9)) {
       ListTag list = tag.getList("Modifiers", 10);
@@ -410,7 +458,7 @@ public class CurioStacksHandler implements ICurioStacksHandler {
         AttributeModifier attributeModifier = AttributeModifier.load(list.getCompound(i));
 
         if (attributeModifier != null) {
-          this.addTransientModifier(attributeModifier);
+          this.putModifier(attributeModifier);
         }
       }
     }
@@ -420,15 +468,19 @@ public class CurioStacksHandler implements ICurioStacksHandler {
 
   @Override
   public void copyModifiers(ICurioStacksHandler other) {
-    this.modifiers.clear();
+    boolean changed = !this.modifiers.isEmpty();
+    this.resetModifiers();
     this.cachedModifiers.clear();
-    this.modifiersByOperation.clear();
-    this.persistentModifiers.clear();
-    other.getModifiers().forEach((uuid, modifier) -> this.addTransientModifier(modifier));
+    other.getModifiers().forEach((uuid, modifier) -> this.putModifier(modifier));
     this.cachedModifiers.addAll(other.getCachedModifiers());
 
     for (AttributeModifier persistentModifier : other.getPermanentModifiers()) {
-      this.addPermanentModifier(persistentModifier);
+      this.putModifier(persistentModifier);
+      this.persistentModifiers.add(persistentModifier);
+    }
+
+    if (changed || !this.modifiers.isEmpty()) {
+      this.flagUpdate();
     }
     this.update();
   }
@@ -453,8 +505,7 @@ public class CurioStacksHandler implements ICurioStacksHandler {
   }
 
   public void addTransientModifier(AttributeModifier modifier) {
-    this.modifiers.put(modifier.id(), modifier);
-    this.getModifiersByOperation(modifier.operation()).add(modifier);
+    this.putModifier(modifier);
     this.flagUpdate();
   }
 
@@ -467,26 +518,78 @@ public class CurioStacksHandler implements ICurioStacksHandler {
     AttributeModifier modifier = this.modifiers.remove(uuid);
 
     if (modifier != null) {
-      this.persistentModifiers.remove(modifier);
-      this.getModifiersByOperation(modifier.operation()).remove(modifier);
+      this.unapplyModifier(modifier);
       this.flagUpdate();
     }
   }
 
+  /**
+   * Adds a modifier to the running slot size totals without flagging an update, replacing any
+   * existing modifier with the same id.
+   */
+  private void putModifier(AttributeModifier modifier) {
+    AttributeModifier prevModifier = this.modifiers.put(modifier.id(), modifier);
+
+    if (prevModifier != null) {
+      this.unapplyModifier(prevModifier);
+    }
+    this.getModifiersByOperation(modifier.operation()).add(modifier);
+
+    switch (modifier.operation()) {
+      case ADD_VALUE -> this.addedSize += modifier.amount();
+      case ADD_MULTIPLIED_BASE -> this.multipliedBaseSize += modifier.amount();
+      case ADD_MULTIPLIED_TOTAL -> this.multipliedTotalSize *= modifier.amount();
+    }
+  }
+
+  private void unapplyModifier(AttributeModifier modifier) {
+    this.persistentModifiers.remove(modifier);
+    Collection<AttributeModifier> byOperation = this.getModifiersByOperation(modifier.operation());
+    byOperation.remove(modifier);
+
+    switch (modifier.operation()) {
+      case ADD_VALUE ->
+          this.addedSize = byOperation.isEmpty() ? 0.0D : this.addedSize - modifier.amount();
+      case ADD_MULTIPLIED_BASE -> this.multipliedBaseSize =
+          byOperation.isEmpty() ? 0.0D : this.multipliedBaseSize - modifier.amount();
+      case ADD_MULTIPLIED_TOTAL -> {
+        // Dividing out the amount would break for zero amounts and accumulate rounding errors
+        double product = 1.0D;
+
+        for (AttributeModifier mod : byOperation) {
+          product *= mod.amount();
+        }
+        this.multipliedTotalSize = product;
+      }
+    }
+  }
+
+  private void resetModifiers() {
+    this.modifiers.clear();
+    this.persistentModifiers.clear();
+    this.modifiersByOperation.clear();
+    this.addedSize = 0.0D;
+    this.multipliedBaseSize = 0.0D;
+    this.multipliedTotalSize = 1.0D;
+  }
+
   private void flagUpdate() {
     this.update = true;
 
     if (this.itemHandler != null) {
-      this.itemHandler.getUpdatingInventories().remove(this);
       this.itemHandler.getUpdatingInventories().add(this);
+
+      if (this.itemHandler instanceof CurioInventoryCapability inventory) {
+        inventory.markSlotModifiersChanged();
+      }
     }
   }
 
   public void clearModifiers() {
-    Set<UUID> ids = new HashSet<>(this.modifiers.keySet());
 
-    for (UUID id : ids) {
-      this.removeModifier(id);
+    if (!this.modifiers.isEmpty()) {
+      this.resetModifiers();
+      this.flagUpdate();
     }
   }
 
@@ -501,41 +604,39 @@ public class CurioStacksHandler implements ICurioStacksHandler {
 
   public void update() {
 
-    if (this.update) {
-      this.update = false;
-      double baseSize = this.baseSize;
-
-      for (AttributeModifier mod : this.getModifiersByOperation(
-          AttributeModifier.Operation.ADD_VALUE)) {
-        baseSize += mod.amount();
-      }
-      double size = baseSize;
+    if (this.updateSize() && this.itemHandler != null && this.itemHandler.getWearer() != null) {
+      NeoForge.EVENT_BUS.post(
+          new SlotModifiersUpdatedEvent(this.itemHandler.getWearer(), Set.of(this.identifier)));
 
-      for (AttributeModifier mod : this.getModifiersByOperation(
-          AttributeModifier.Operation.ADD_MULTIPLIED_BASE)) {
-        size += this.baseSize * mod.amount();
+      if (this.itemHandler.getWearer() instanceof Player player &&
+          player.containerMenu instanceof ICuriosMenu curiosMenu) {
+        curiosMenu.resetSlots();
       }
+    }
+  }
 
-      for (AttributeModifier mod : this.getModifiersByOperation(
-          AttributeModifier.Operation.ADD_MULTIPLIED_TOTAL)) {
-        size *= mod.amount();
-      }
-      size = Math.max(0, size);
-
-      if (size != this.getSlots()) {
-        this.resize((int) size);
+  /**
+   * Recalculates the slot modifiers and resizes the handler without posting any events. Does
+   * nothing while the slot modifiers of the owning handler are being batched.
+   *
+   * @return True if the handler was resized
+   */
+  public boolean updateSize() {
 
-        if (this.itemHandler != null && this.itemHandler.getWearer() != null) {
-          NeoForge.EVENT_BUS.post(
-              new SlotModifiersUpdatedEvent(this.itemHandler.getWearer(), Set.of(this.identifier)));
+    if (!this.update ||
+        (this.itemHandler != null && this.itemHandler.isBatchingSlotModifiers())) {
+      return false;
+    }
+    this.update = false;
+    double size = (this.baseSize + this.addedSize + this.baseSize * this.multipliedBaseSize) *
+        this.multipliedTotalSize;
+    size = Math.max(0, size);
 
-          if (this.itemHandler.getWearer() instanceof Player player &&
-              player.containerMenu instanceof ICuriosMenu curiosMenu) {
-            curiosMenu.resetSlots();
-          }
-        }
-      }
+    if (size != this.stackHandler.getSlots()) {
+      this.resize((int) size);
+      return true;
     }
+    return false;
   }
 
   private void resize(int newSize) {
@@ -543,28 +644,25 @@ public class CurioStacksHandler implements ICurioStacksHandler {
 
     if (currentSize != newSize) {
       int change = newSize - currentSize;
+      this.slotContexts = new SlotContext[0];
+      this.cosmeticSlotContexts = new SlotContext[0];
 
       if (currentSize > newSize) {
         change = change * -1;
         this.loseStacks(this.stackHandler, identifier, change);
         this.stackHandler.shrink(change);
-        this.cosmeticStackHandler.shrink(change);
-        NonNullList<Boolean> newList = NonNullList.withSize(Math.max(0, newSize), true);
 
-        for (int i = 0; i < newList.size() && i < this.renderHandler.size(); i++) {
-          newList.set(i, renderHandler.get(i));
+        if (this.cosmeticStackHandler != null) {
+          this.cosmeticStackHandler.shrink(change);
         }
-        this.renderHandler = newList;
       } else {
         this.stackHandler.grow(change);
-        this.cosmeticStackHandler.grow(change);
-        NonNullList<Boolean> newList = NonNullList.withSize(Math.max(0, newSize), true);
 
-        for (int i = 0; i < newList.size() && i < this.renderHandler.size(); i++) {
-          newList.set(i, renderHandler.get(i));
+        if (this.cosmeticStackHandler != null) {
+          this.cosmeticStackHandler.grow(change);
         }
-        this.renderHandler = newList;
       }
+      this.renderHandler.resize(newSize);
     }
   }
 
@@ -585,32 +683,28 @@ public class CurioStacksHandler implements ICurioStacksHandler {
       if (!stack.isEmpty()) {
         UUID uuid = CuriosApi.getSlotUuid(slotContext);
         Multimap<Holder<Attribute>, AttributeModifier> map =
-            CuriosApi.getAttributeModifiers(slotContext, uuid, stack);
+            CuriosImplMixinHooks.getCachedAttributeModifiers(slotContext, uuid, stack);
         Multimap<String, AttributeModifier> slots = HashMultimap.create();
-        Set<Holder<Attribute>> toRemove = new HashSet<>();
         AttributeMap attributeMap = entity.getAttributes();
 
-        for (Holder<Attribute> attribute : map.keySet()) {
-
-          if (attribute.value() instanceof SlotAttribute wrapper) {
-            slots.putAll(wrapper.getIdentifier(), map.get(attribute));
-            toRemove.add(attribute);
-          }
-        }
-
-        for (Holder<Attribute> attribute : toRemove) {
-          map.removeAll(attribute);
-        }
-
         map.forEach((key, value) -> {
-          AttributeInstance attInst = attributeMap.getInstance(key);
 
-          if (attInst != null) {
-            attInst.removeModifier(value);
+          if (key.value() instanceof SlotAttribute wrapper) {
+            slots.put(wrapper.getIdentifier(), value);
+          } else {
+            AttributeInstance attInst = attributeMap.getInstance(key);
+
+            if (attInst != null) {
+              attInst.removeModifier(value);
+            }
           }
         });
         this.itemHandler.removeSlotModifiers(slots);
-        CuriosApi.getCurio(stack).ifPresent(curio -> curio.onUnequip(slotContext, ItemStack.EMPTY));
+        ICurio curio = stackHandler.getCurio(i);
+
+        if (curio != null) {
+          curio.onUnequip(slotContext, ItemStack.EMPTY);
+        }
       }
       stackHandler.setStackInSlot(i, ItemStack.EMPTY);
     }
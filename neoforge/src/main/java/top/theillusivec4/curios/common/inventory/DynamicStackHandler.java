@@ -20,9 +20,14 @@
 
 package top.theillusivec4.curios.common.inventory;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import net.minecraft.core.NonNullList;
+import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
@@ -30,38 +35,232 @@ import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.common.util.TriState;
 import net.neoforged.neoforge.items.ItemStackHandler;
 import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.api.CuriosCapability;
+import top.theillusivec4.curios.api.CuriosTags;
 import top.theillusivec4.curios.api.SlotContext;
 import top.theillusivec4.curios.api.event.CurioCanEquipEvent;
 import top.theillusivec4.curios.api.event.CurioCanUnequipEvent;
+import top.theillusivec4.curios.api.type.capability.ICurio;
 import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
+import top.theillusivec4.curios.mixin.CuriosUtilMixinHooks;
 
 public class DynamicStackHandler extends ItemStackHandler implements IDynamicStackHandler {
 
+  private static final AtomicInteger SERVER_VERDICT_EPOCH = new AtomicInteger();
+  private static final AtomicInteger CLIENT_VERDICT_EPOCH = new AtomicInteger();
+  private static volatile int tickingGeneration = 0;
+
+  @Nullable
   protected NonNullList<ItemStack> previousStacks;
   protected Function<Integer, SlotContext> ctxBuilder;
+  protected BitSet changedSlots = new BitSet();
+  protected BitSet occupiedSlots = new BitSet();
+  protected boolean rebuildOccupiedSlots = true;
+  protected int[] tickingSlots = new int[0];
+  protected boolean rebuildTickingSlots = true;
+  protected int tickingSlotsGeneration = -1;
+  protected ItemStack[] curioStacks = new ItemStack[0];
+  protected ICurio[] curios = new ICurio[0];
+  protected Runnable changeListener;
+  private Verdict[] verdicts = new Verdict[0];
+  @Nullable
+  private AtomicInteger sideVerdictEpoch;
+  private int verdictEpoch = 0;
 
   public DynamicStackHandler(int size, Function<Integer, SlotContext> ctxBuilder) {
+    this(size, ctxBuilder, () -> {});
+  }
+
+  public DynamicStackHandler(int size, Function<Integer, SlotContext> ctxBuilder,
+                             Runnable changeListener) {
     super(size);
-    this.previousStacks = NonNullList.withSize(size, ItemStack.EMPTY);
     this.ctxBuilder = ctxBuilder;
+    this.changeListener = changeListener;
   }
 
   @Override
   public void setPreviousStackInSlot(int slot, @Nonnull ItemStack stack) {
     this.validateSlotIndex(slot);
+
+    if (this.previousStacks == null) {
+
+      if (stack.isEmpty()) {
+        return;
+      }
+      this.previousStacks = NonNullList.withSize(this.getSlots(), ItemStack.EMPTY);
+    }
     this.previousStacks.set(slot, stack);
-    this.onContentsChanged(slot);
   }
 
   @Nonnull
   @Override
   public ItemStack getPreviousStackInSlot(int slot) {
     this.validateSlotIndex(slot);
-    return this.previousStacks.get(slot);
+    return this.previousStacks != null ? this.previousStacks.get(slot) : ItemStack.EMPTY;
+  }
+
+  @Nullable
+  @Override
+  public ICurio getCurio(int slot) {
+    ItemStack stack = this.getStackInSlot(slot);
+
+    if (stack.isEmpty()) {
+      return null;
+    }
+    int size = this.getSlots();
+
+    if (this.curios.length != size) {
+      this.curioStacks = Arrays.copyOf(this.curioStacks, size);
+      this.curios = Arrays.copyOf(this.curios, size);
+    }
+
+    if (this.curioStacks[slot] != stack) {
+      this.curioStacks[slot] = stack;
+      this.curios[slot] = stack.getCapability(CuriosCapability.ITEM);
+    }
+    return this.curios[slot];
+  }
+
+  @Override
+  public void markChanged(int slot) {
+    this.changedSlots.set(slot);
+    this.occupiedSlots.set(slot, !this.getStackInSlot(slot).isEmpty());
+    this.rebuildTickingSlots = true;
+    this.notifyChanged();
+    this.invalidateCurio(slot);
+  }
+
+  @Override
+  public void invalidateCurio(int slot) {
+
+    if (slot < this.curioStacks.length) {
+      this.curioStacks[slot] = null;
+    }
+  }
+
+  @Override
+  public int nextChangedSlot(int fromIndex) {
+    int slot = this.changedSlots.nextSetBit(fromIndex);
+    return slot < this.getSlots() ? slot : -1;
+  }
+
+  @Override
+  public void clearChanged(int slot) {
+    this.changedSlots.clear(slot);
+  }
+
+  @Override
+  protected void onContentsChanged(int slot) {
+    this.markChanged(slot);
+  }
+
+  @Override
+  protected void onLoad() {
+    this.changedSlots.set(0, this.getSlots());
+    this.rebuildOccupiedSlots = true;
+    this.rebuildTickingSlots = true;
+    this.notifyChanged();
+  }
+
+  @Override
+  public int nextEmptySlot(int fromIndex) {
+    int size = this.getSlots();
+
+    if (this.rebuildOccupiedSlots) {
+      this.rebuildOccupiedSlots = false;
+      this.occupiedSlots.clear();
+
+      for (int i = 0; i < size; i++) {
+
+        if (!this.getStackInSlot(i).isEmpty()) {
+          this.occupiedSlots.set(i);
+        }
+      }
+    }
+    int slot = this.occupiedSlots.nextClearBit(Math.max(0, fromIndex));
+
+    while (slot < size && !this.getStackInSlot(slot).isEmpty()) {
+      this.occupiedSlots.set(slot);
+      slot = this.occupiedSlots.nextClearBit(slot + 1);
+    }
+    return slot < size ? slot : -1;
+  }
+
+  @Override
+  public int[] getTickingSlots() {
+    int generation = tickingGeneration;
+
+    if (this.rebuildTickingSlots || this.tickingSlotsGeneration != generation) {
+      this.rebuildTickingSlots = false;
+      this.tickingSlotsGeneration = generation;
+      int[] slots = new int[this.getSlots()];
+      int size = 0;
+
+      for (int i = 0; i < this.getSlots(); i++) {
+        ItemStack stack = this.getStackInSlot(i);
+
+        if (!stack.isEmpty() && !stack.is(CuriosTags.NO_TICK)) {
+          ICurio curio = this.getCurio(i);
+
+          if (curio == null || curio.canTick(this.ctxBuilder.apply(i))) {
+            slots[size++] = i;
+          }
+        }
+      }
+      this.tickingSlots = Arrays.copyOf(slots, size);
+    }
+    return this.tickingSlots;
+  }
+
+  /**
+   * Rebuilds the ticking slots of all handlers on their next use, such as after the
+   * {@link CuriosTags#NO_TICK} tag is reloaded.
+   */
+  public static void invalidateTickingSlots() {
+    tickingGeneration++;
+  }
+
+  /**
+   * Discards the cached results of {@link DynamicStackHandler#isItemValid(int, ItemStack)} for all
+   * handlers on one side. This is called every tick of that side and after tag and slot reloads,
+   * while the results of a single handler are also discarded whenever its stacks change.
+   *
+   * @param clientSide True to discard the results of client-side handlers, false for server-side
+   */
+  public static void invalidateVerdicts(boolean clientSide) {
+    (clientSide ? CLIENT_VERDICT_EPOCH : SERVER_VERDICT_EPOCH).incrementAndGet();
   }
 
   @Override
   public boolean isItemValid(int slot, @Nonnull ItemStack stack) {
+    int size = this.getSlots();
+
+    if (slot < 0 || slot >= size) {
+      return this.testItemValid(slot, stack);
+    }
+
+    if (this.verdicts.length != size) {
+      this.verdicts = Arrays.copyOf(this.verdicts, size);
+    }
+
+    if (this.sideVerdictEpoch == null) {
+      LivingEntity livingEntity = this.ctxBuilder.apply(slot).entity();
+      this.sideVerdictEpoch = livingEntity != null && livingEntity.level().isClientSide() ?
+          CLIENT_VERDICT_EPOCH : SERVER_VERDICT_EPOCH;
+    }
+    int sideEpoch = this.sideVerdictEpoch.get();
+    int writes = CuriosUtilMixinHooks.getComponentWrites(stack);
+    Verdict verdict = this.verdicts[slot];
+
+    if (verdict == null || !verdict.matches(stack, writes, sideEpoch, this.verdictEpoch)) {
+      verdict = new Verdict(stack, stack.getCount(), writes, sideEpoch, this.verdictEpoch,
+          this.testItemValid(slot, stack));
+      this.verdicts[slot] = verdict;
+    }
+    return verdict.valid();
+  }
+
+  private boolean testItemValid(int slot, ItemStack stack) {
     SlotContext ctx = ctxBuilder.apply(slot);
     CurioCanEquipEvent equipEvent = new CurioCanEquipEvent(stack, ctx);
     NeoForge.EVENT_BUS.post(equipEvent);
@@ -87,10 +286,11 @@ public class DynamicStackHandler extends ItemStackHandler implements IDynamicSta
       return ItemStack.EMPTY;
     }
     boolean isCreative = ctx.entity() instanceof Player player && player.isCreative();
+    ICurio curio = existing.isEmpty() ? null : this.getCurio(slot);
 
     if (result == TriState.TRUE ||
         ((existing.isEmpty() || isCreative || !EnchantmentHelper.hasBindingCurse(existing)) &&
-            CuriosApi.getCurio(existing).map(curio -> curio.canUnequip(ctx)).orElse(true))) {
+            (curio == null || curio.canUnequip(ctx)))) {
       return super.extractItem(slot, amount, simulate);
     }
     return ItemStack.EMPTY;
@@ -99,13 +299,30 @@ public class DynamicStackHandler extends ItemStackHandler implements IDynamicSta
   @Override
   public void grow(int amount) {
     this.stacks = getResizedList(this.stacks.size() + amount, this.stacks);
-    this.previousStacks = getResizedList(this.previousStacks.size() + amount, this.previousStacks);
+
+    if (this.previousStacks != null) {
+      this.previousStacks = getResizedList(this.stacks.size(), this.previousStacks);
+    }
+    this.rebuildTickingSlots = true;
+    this.notifyChanged();
   }
 
   @Override
   public void shrink(int amount) {
     this.stacks = getResizedList(this.stacks.size() - amount, this.stacks);
-    this.previousStacks = getResizedList(this.previousStacks.size() - amount, this.previousStacks);
+
+    if (this.previousStacks != null) {
+      this.previousStacks = getResizedList(this.stacks.size(), this.previousStacks);
+    }
+    this.changedSlots.clear(this.stacks.size(), Integer.MAX_VALUE);
+    this.occupiedSlots.clear(this.stacks.size(), Integer.MAX_VALUE);
+    this.rebuildTickingSlots = true;
+    this.notifyChanged();
+  }
+
+  private void notifyChanged() {
+    this.changeListener.run();
+    this.verdictEpoch++;
   }
 
   private static NonNullList<ItemStack> getResizedList(int size, NonNullList<ItemStack> stacks) {
@@ -116,4 +333,13 @@ public class DynamicStackHandler extends ItemStackHandler implements IDynamicSta
     }
     return newList;
   }
+
+  private record Verdict(ItemStack stack, int count, int writes, int sideEpoch, int epoch,
+                         boolean valid) {
+
+    boolean matches(ItemStack stack, int writes, int sideEpoch, int epoch) {
+      return this.stack == stack && this.count == stack.getCount() && this.writes == writes &&
+          this.sideEpoch == sideEpoch && this.epoch == epoch;
+    }
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.inventory;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import net.minecraft.core.NonNullList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+
+/**
+ * Fixed-size list of render states backed by a {@link BitSet} of hidden slots, so slots render by
+ * default and growing the list only requires updating its size.
+ * <br>
+ * Render states are saved as a long array of hidden slots. The legacy layout of one compound per
+ * slot is still read.
+ */
+public final class RenderStates extends NonNullList<Boolean> {
+
+  private final BitSet hidden = new BitSet();
+  private int size;
+
+  public RenderStates(int size) {
+    super(List.of(), true);
+    this.size = Math.max(0, size);
+  }
+
+  @Nonnull
+  @Override
+  public Boolean get(int index) {
+    Objects.checkIndex(index, this.size);
+    return !this.hidden.get(index);
+  }
+
+  @Nonnull
+  @Override
+  public Boolean set(int index, @Nonnull Boolean value) {
+    Objects.checkIndex(index, this.size);
+    boolean previous = !this.hidden.get(index);
+    this.hidden.set(index, !value);
+    return previous;
+  }
+
+  @Override
+  public int size() {
+    return this.size;
+  }
+
+  public void resize(int size) {
+    this.size = Math.max(0, size);
+    this.hidden.clear(this.size, Integer.MAX_VALUE);
+  }
+
+  public CompoundTag save() {
+    CompoundTag tag = new CompoundTag();
+    tag.putInt("Size", this.size);
+
+    if (!this.hidden.isEmpty()) {
+      tag.putLongArray("Hidden", this.hidden.toLongArray());
+    }
+    return tag;
+  }
+
+  public void load(CompoundTag tag, int defaultSize) {
+    this.hidden.clear();
+    this.size = Math.max(0, tag.contains("Size", Tag.TAG_INT) ? tag.getInt("Size") : defaultSize);
+
+    if (tag.contains("Hidden", Tag.TAG_LONG_ARRAY)) {
+      this.hidden.or(BitSet.valueOf(tag.getLongArray("Hidden")));
+      this.hidden.clear(this.size, Integer.MAX_VALUE);
+    } else {
+      ListTag tagList = tag.getList("Renders", Tag.TAG_COMPOUND);
+
+      for (int i = 0; i < tagList.size(); i++) {
+        CompoundTag tags = tagList.getCompound(i);
+        int slot = tags.getInt("Slot");
+
+        if (slot >= 0 && slot < this.size && !tags.getBoolean("Render")) {
+          this.hidden.set(slot);
+        }
+      }
+    }
+  }
+}
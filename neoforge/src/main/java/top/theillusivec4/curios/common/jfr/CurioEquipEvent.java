@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(CurioEquipEvent.NAME)
+@Label("Curio Equipment Change")
+@Category({"Minecraft", "Curios"})
+@Enabled(false)
+@StackTrace(false)
+public class CurioEquipEvent extends Event {
+
+  public static final String NAME = "curios.CurioEquip";
+
+  @Label("Entity Type")
+  public String entityType;
+
+  @Label("Slot Identifier")
+  public String slot;
+
+  @Label("Slot Index")
+  public int index;
+
+  @Label("Equipped Item")
+  public String item;
+
+  @Label("Unequipped Item")
+  public String previousItem;
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(CurioTickEvent.NAME)
+@Label("Curio Tick")
+@Category({"Minecraft", "Curios"})
+@Enabled(false)
+@StackTrace(false)
+public class CurioTickEvent extends Event {
+
+  public static final String NAME = "curios.CurioTick";
+
+  /**
+   * Checks if this event is recorded without creating an event, for the entity tick where creating
+   * one for every entity would allocate while no recording is running.
+   *
+   * @return True if this event is enabled in a running recording
+   */
+  public static boolean isTypeEnabled() {
+    return TypeHolder.TYPE.isEnabled();
+  }
+
+  @Label("Entity Type")
+  public String entityType;
+
+  @Label("Client Side")
+  public boolean clientSide;
+
+  private static final class TypeHolder {
+    private static final EventType TYPE = EventType.getEventType(CurioTickEvent.class);
+  }
+}
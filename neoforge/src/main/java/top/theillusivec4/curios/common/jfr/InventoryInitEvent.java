@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(InventoryInitEvent.NAME)
+@Label("Curio Inventory Initialization")
+@Category({"Minecraft", "Curios"})
+@Enabled(false)
+@StackTrace(false)
+public class InventoryInitEvent extends Event {
+
+  public static final String NAME = "curios.InventoryInit";
+
+  @Label("Entity Type")
+  public String entityType;
+
+  @Label("Slot Types")
+  public int slotTypes;
+
+  @Label("Deserialized")
+  public boolean deserialized;
+
+  @Label("Invalid Stacks")
+  public int invalidStacks;
+}
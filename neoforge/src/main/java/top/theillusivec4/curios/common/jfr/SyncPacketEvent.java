@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(SyncPacketEvent.NAME)
+@Label("Curio Sync Packet")
+@Category({"Minecraft", "Curios", "Network"})
+@Enabled(false)
+@StackTrace(false)
+public class SyncPacketEvent extends Event {
+
+  public static final String NAME = "curios.SyncPacket";
+
+  @Label("Packet")
+  public String packet;
+
+  @Label("Entity Id")
+  public int entityId;
+
+  @Label("Slot Identifier")
+  public String slot;
+
+  @Label("Item")
+  public String item;
+
+  @Label("Entries")
+  public int entries;
+
+  @Label("Size")
+  @DataAmount
+  public int bytes;
+}
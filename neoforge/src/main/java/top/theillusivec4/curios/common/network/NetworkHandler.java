@@ -34,6 +34,7 @@ import top.theillusivec4.curios.common.network.server.SPacketGrabbedItem;
 import top.theillusivec4.curios.common.network.server.SPacketPage;
 import top.theillusivec4.curios.common.network.server.SPacketQuickMove;
 import top.theillusivec4.curios.common.network.server.SPacketSetIcons;
+import top.theillusivec4.curios.common.network.server.sync.SPacketSyncBatch;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncCurios;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncData;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncModifiers;
@@ -68,6 +69,8 @@ public class NetworkHandler {
         CuriosClientPayloadHandler.getInstance()::handle);
     registrar.playToClient(SPacketSyncModifiers.TYPE, SPacketSyncModifiers.STREAM_CODEC,
         CuriosClientPayloadHandler.getInstance()::handle);
+    registrar.playToClient(SPacketSyncBatch.TYPE, SPacketSyncBatch.STREAM_CODEC,
+        CuriosClientPayloadHandler.getInstance()::handle);
     registrar.playToClient(SPacketSyncRender.TYPE, SPacketSyncRender.STREAM_CODEC,
         CuriosClientPayloadHandler.getInstance()::handle);
     registrar.playToClient(SPacketBreak.TYPE, SPacketBreak.STREAM_CODEC,
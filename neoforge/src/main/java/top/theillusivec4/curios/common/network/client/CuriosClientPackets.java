@@ -43,7 +43,9 @@ import top.theillusivec4.curios.api.SlotContext;
 import top.theillusivec4.curios.api.event.SlotModifiersUpdatedEvent;
 import top.theillusivec4.curios.api.type.ICuriosMenu;
 import top.theillusivec4.curios.api.type.capability.ICurio;
+import top.theillusivec4.curios.api.type.capability.ICuriosItemHandler;
 import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
+import top.theillusivec4.curios.client.ClientEventHandler;
 import top.theillusivec4.curios.client.gui.CuriosScreen;
 import top.theillusivec4.curios.common.data.CuriosEntityManager;
 import top.theillusivec4.curios.common.data.CuriosSlotManager;
@@ -54,11 +56,13 @@ import top.theillusivec4.curios.common.network.server.SPacketGrabbedItem;
 import top.theillusivec4.curios.common.network.server.SPacketPage;
 import top.theillusivec4.curios.common.network.server.SPacketQuickMove;
 import top.theillusivec4.curios.common.network.server.SPacketSetIcons;
+import top.theillusivec4.curios.common.network.server.sync.SPacketSyncBatch;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncCurios;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncData;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncModifiers;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncRender;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncStack;
+import top.theillusivec4.curios.mixin.CuriosImplMixinHooks;
 import top.theillusivec4.curios.server.command.CurioArgumentType;
 
 public class CuriosClientPackets {
@@ -163,34 +167,61 @@ public class CuriosClientPackets {
 
       if (entity instanceof LivingEntity livingEntity) {
         CuriosApi.getCuriosInventory(livingEntity)
-            .ifPresent(handler -> {
-              Map<String, ICurioStacksHandler> curios = handler.getCurios();
+            .ifPresent(handler -> applyModifiers(mc, livingEntity, handler, data.updates));
+      }
+    }
+  }
 
-              for (Map.Entry<String, CompoundTag> entry : data.updates.entrySet()) {
-                String id = entry.getKey();
-                ICurioStacksHandler stacksHandler = curios.get(id);
+  public static void handle(final SPacketSyncBatch data) {
+    Minecraft mc = Minecraft.getInstance();
+    ClientLevel world = mc.level;
 
-                if (stacksHandler != null) {
-                  stacksHandler.applySyncTag(entry.getValue());
-                }
-              }
+    if (world != null) {
+      Entity entity = world.getEntity(data.entityId);
 
-              if (!data.updates.isEmpty()) {
-                NeoForge.EVENT_BUS.post(
-                    new SlotModifiersUpdatedEvent(livingEntity, data.updates.keySet()));
-              }
+      if (entity instanceof LivingEntity livingEntity) {
+        CuriosApi.getCuriosInventory(livingEntity).ifPresent(handler -> {
+
+          if (!data.updates.isEmpty()) {
+            applyModifiers(mc, livingEntity, handler, data.updates);
+          }
+
+          for (SPacketSyncBatch.Entry entry : data.stacks) {
+            handler.getStacksHandler(entry.curioId()).ifPresent(
+                stacksHandler -> syncStack(livingEntity, stacksHandler, entry.curioId(),
+                    entry.slotId(), entry.handlerType(), entry.stack(), entry.compoundTag()));
+          }
+        });
+      }
+    }
+  }
 
-              if (entity instanceof LocalPlayer localPlayer) {
+  private static void applyModifiers(Minecraft mc, LivingEntity livingEntity,
+                                     ICuriosItemHandler handler,
+                                     Map<String, CompoundTag> updates) {
+    Map<String, ICurioStacksHandler> curios = handler.getCurios();
 
-                if (localPlayer.containerMenu instanceof ICuriosMenu curiosMenu) {
-                  curiosMenu.resetSlots();
-                }
+    for (Map.Entry<String, CompoundTag> entry : updates.entrySet()) {
+      String id = entry.getKey();
+      ICurioStacksHandler stacksHandler = curios.get(id);
 
-                if (mc.screen instanceof CuriosScreen screen) {
-                  screen.updateRenderButtons();
-                }
-              }
-            });
+      if (stacksHandler != null) {
+        stacksHandler.applySyncTag(entry.getValue());
+      }
+    }
+
+    if (!updates.isEmpty()) {
+      NeoForge.EVENT_BUS.post(new SlotModifiersUpdatedEvent(livingEntity, updates.keySet()));
+    }
+
+    if (livingEntity instanceof LocalPlayer localPlayer) {
+
+      if (localPlayer.containerMenu instanceof ICuriosMenu curiosMenu) {
+        curiosMenu.resetSlots();
+      }
+
+      if (mc.screen instanceof CuriosScreen screen) {
+        screen.updateRenderButtons();
       }
     }
   }
@@ -198,6 +229,8 @@ public class CuriosClientPackets {
   public static void handle(final SPacketSyncData data) {
     CuriosSlotManager.applySyncPacket(data.slotData);
     CuriosEntityManager.applySyncPacket(data.entityData);
+    CuriosImplMixinHooks.clearAttributeModifierCache();
+    ClientEventHandler.clearTooltipCache();
   }
 
   public static void handle(final SPacketSyncCurios data) {
@@ -245,27 +278,34 @@ public class CuriosClientPackets {
       if (entity instanceof LivingEntity livingEntity) {
         CuriosApi.getCuriosInventory(livingEntity)
             .flatMap(handler -> handler.getStacksHandler(data.curioId()))
-            .ifPresent(stacksHandler -> {
-              ItemStack stack = data.stack().copy();
-              CompoundTag compoundNBT = data.compoundTag();
-              int slot = data.slotId();
-              boolean cosmetic = SPacketSyncStack.HandlerType.fromValue(data.handlerType()) ==
-                  SPacketSyncStack.HandlerType.COSMETIC;
-
-              if (!compoundNBT.isEmpty()) {
-                NonNullList<Boolean> renderStates = stacksHandler.getRenders();
-                CuriosApi.getCurio(stack).ifPresent(curio -> curio.readSyncData(
-                    new SlotContext(data.curioId(), livingEntity, slot, cosmetic,
-                        renderStates.size() > slot && renderStates.get(slot)), compoundNBT));
-              }
-
-              if (cosmetic) {
-                stacksHandler.getCosmeticStacks().setStackInSlot(slot, stack);
-              } else {
-                stacksHandler.getStacks().setStackInSlot(slot, stack);
-              }
-            });
+            .ifPresent(stacksHandler -> syncStack(livingEntity, stacksHandler, data.curioId(),
+                data.slotId(), data.handlerType(), data.stack(), data.compoundTag()));
       }
     }
   }
+
+  private static void syncStack(LivingEntity livingEntity, ICurioStacksHandler stacksHandler,
+                                String curioId, int slot, int handlerType, ItemStack syncStack,
+                                CompoundTag compoundNBT) {
+
+    if (slot >= stacksHandler.getSlots()) {
+      return;
+    }
+    ItemStack stack = syncStack.copy();
+    boolean cosmetic = SPacketSyncStack.HandlerType.fromValue(handlerType) ==
+        SPacketSyncStack.HandlerType.COSMETIC;
+
+    if (compoundNBT != null && !compoundNBT.isEmpty()) {
+      NonNullList<Boolean> renderStates = stacksHandler.getRenders();
+      CuriosApi.getCurio(stack).ifPresent(curio -> curio.readSyncData(
+          new SlotContext(curioId, livingEntity, slot, cosmetic,
+              renderStates.size() > slot && renderStates.get(slot)), compoundNBT));
+    }
+
+    if (cosmetic) {
+      stacksHandler.getCosmeticStacks().setStackInSlot(slot, stack);
+    } else {
+      stacksHandler.getStacks().setStackInSlot(slot, stack);
+    }
+  }
 }
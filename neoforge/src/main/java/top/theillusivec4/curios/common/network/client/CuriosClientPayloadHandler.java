@@ -44,6 +44,7 @@ import top.theillusivec4.curios.common.network.server.SPacketGrabbedItem;
 import top.theillusivec4.curios.common.network.server.SPacketPage;
 import top.theillusivec4.curios.common.network.server.SPacketQuickMove;
 import top.theillusivec4.curios.common.network.server.SPacketSetIcons;
+import top.theillusivec4.curios.common.network.server.sync.SPacketSyncBatch;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncCurios;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncData;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncModifiers;
@@ -105,4 +106,8 @@ public class CuriosClientPayloadHandler {
   public void handle(final SPacketSyncStack data, final IPayloadContext ctx) {
     handle(ctx, () -> CuriosClientPackets.handle(data));
   }
+
+  public void handle(final SPacketSyncBatch data, final IPayloadContext ctx) {
+    handle(ctx, () -> CuriosClientPackets.handle(data));
+  }
 }
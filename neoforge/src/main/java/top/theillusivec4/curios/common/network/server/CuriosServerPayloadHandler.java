@@ -22,8 +22,6 @@ package top.theillusivec4.curios.common.network.server;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.UUID;
 import net.minecraft.core.Holder;
 import net.minecraft.core.NonNullList;
@@ -52,6 +50,7 @@ import top.theillusivec4.curios.common.network.client.CPacketToggleCosmetics;
 import top.theillusivec4.curios.common.network.client.CPacketToggleRender;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncRender;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncStack;
+import top.theillusivec4.curios.mixin.CuriosImplMixinHooks;
 
 public class CuriosServerPayloadHandler {
 
@@ -163,28 +162,20 @@ public class CuriosServerPayloadHandler {
               UUID uuid = CuriosApi.getSlotUuid(slotContext);
               ItemStack stack = stackHandler.getStackInSlot(i);
               Multimap<Holder<Attribute>, AttributeModifier> map =
-                  CuriosApi.getAttributeModifiers(slotContext, uuid, stack);
+                  CuriosImplMixinHooks.getCachedAttributeModifiers(slotContext, uuid, stack);
               Multimap<String, AttributeModifier> slots = HashMultimap.create();
-              Set<Holder<Attribute>> toRemove = new HashSet<>();
               AttributeMap attributeMap = player.getAttributes();
 
-              for (Holder<Attribute> attribute : map.keySet()) {
-
-                if (attribute.value() instanceof SlotAttribute wrapper) {
-                  slots.putAll(wrapper.getIdentifier(), map.get(attribute));
-                  toRemove.add(attribute);
-                }
-              }
-
-              for (Holder<Attribute> attribute : toRemove) {
-                map.removeAll(attribute);
-              }
-
               map.forEach((key, value) -> {
-                AttributeInstance attInst = attributeMap.getInstance(key);
 
-                if (attInst != null) {
-                  attInst.removeModifier(value);
+                if (key.value() instanceof SlotAttribute wrapper) {
+                  slots.put(wrapper.getIdentifier(), value);
+                } else {
+                  AttributeInstance attInst = attributeMap.getInstance(key);
+
+                  if (attInst != null) {
+                    attInst.removeModifier(value);
+                  }
                 }
               });
               handler.removeSlotModifiers(slots);
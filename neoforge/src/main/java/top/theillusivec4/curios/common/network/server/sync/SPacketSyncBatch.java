@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.network.server.sync;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.item.ItemStack;
+import top.theillusivec4.curios.CuriosConstants;
+import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
+import top.theillusivec4.curios.common.jfr.SyncPacketEvent;
+
+/**
+ * Syncs all the stack and slot modifier changes of an entity from a single tick.
+ */
+public class SPacketSyncBatch implements CustomPacketPayload {
+
+  public static final Type<SPacketSyncBatch> TYPE =
+      new Type<>(new ResourceLocation(CuriosConstants.MOD_ID, "sync_batch"));
+  public static final StreamCodec<RegistryFriendlyByteBuf, SPacketSyncBatch> STREAM_CODEC =
+      new StreamCodec<>() {
+        @Nonnull
+        @Override
+        public SPacketSyncBatch decode(@Nonnull RegistryFriendlyByteBuf buf) {
+          return new SPacketSyncBatch(buf);
+        }
+
+        @Override
+        public void encode(@Nonnull RegistryFriendlyByteBuf buf, SPacketSyncBatch packet) {
+          SyncPacketEvent syncEvent = new SyncPacketEvent();
+          syncEvent.begin();
+          int start = buf.writerIndex();
+          buf.writeInt(packet.entityId);
+          buf.writeVarInt(packet.stacks.size());
+
+          for (Entry entry : packet.stacks) {
+            buf.writeUtf(entry.curioId());
+            buf.writeVarInt(entry.slotId());
+            buf.writeVarInt(entry.handlerType());
+            ItemStack.OPTIONAL_STREAM_CODEC.encode(buf, entry.stack());
+            buf.writeNbt(entry.compoundTag());
+          }
+          buf.writeVarInt(packet.updates.size());
+
+          for (Map.Entry<String, CompoundTag> entry : packet.updates.entrySet()) {
+            buf.writeUtf(entry.getKey());
+            buf.writeNbt(entry.getValue());
+          }
+          syncEvent.end();
+
+          if (syncEvent.shouldCommit()) {
+            syncEvent.packet = TYPE.id().toString();
+            syncEvent.entityId = packet.entityId;
+            syncEvent.entries = packet.stacks.size() + packet.updates.size();
+            syncEvent.bytes = buf.writerIndex() - start;
+            syncEvent.commit();
+          }
+        }
+      };
+
+  public final int entityId;
+  public final List<Entry> stacks;
+  public final Map<String, CompoundTag> updates;
+
+  public SPacketSyncBatch(int entityId, List<Entry> stacks, Set<ICurioStacksHandler> updates) {
+    Map<String, CompoundTag> result = new LinkedHashMap<>();
+
+    for (ICurioStacksHandler stacksHandler : updates) {
+      result.put(stacksHandler.getIdentifier(), stacksHandler.getSyncTag());
+    }
+    this.entityId = entityId;
+    this.stacks = List.copyOf(stacks);
+    this.updates = result;
+  }
+
+  public SPacketSyncBatch(final RegistryFriendlyByteBuf buf) {
+    int entityId = buf.readInt();
+    int stackSize = buf.readVarInt();
+    List<Entry> stacks = new ArrayList<>(stackSize);
+
+    for (int i = 0; i < stackSize; i++) {
+      stacks.add(new Entry(buf.readUtf(), buf.readVarInt(), buf.readVarInt(),
+          ItemStack.OPTIONAL_STREAM_CODEC.decode(buf), buf.readNbt()));
+    }
+    int updateSize = buf.readVarInt();
+    Map<String, CompoundTag> updates = new LinkedHashMap<>();
+
+    for (int i = 0; i < updateSize; i++) {
+      String key = buf.readUtf();
+      updates.put(key, buf.readNbt());
+    }
+    this.entityId = entityId;
+    this.stacks = stacks;
+    this.updates = updates;
+  }
+
+  @Nonnull
+  @Override
+  public Type<? extends CustomPacketPayload> type() {
+    return TYPE;
+  }
+
+  public record Entry(String curioId, int slotId, int handlerType, ItemStack stack,
+                      CompoundTag compoundTag) {
+
+  }
+}
@@ -31,6 +31,7 @@ import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import top.theillusivec4.curios.CuriosConstants;
 import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
+import top.theillusivec4.curios.common.jfr.SyncPacketEvent;
 
 public class SPacketSyncCurios implements CustomPacketPayload {
 
@@ -46,6 +47,9 @@ public class SPacketSyncCurios implements CustomPacketPayload {
 
         @Override
         public void encode(@Nonnull RegistryFriendlyByteBuf buf, SPacketSyncCurios packet) {
+          SyncPacketEvent syncEvent = new SyncPacketEvent();
+          syncEvent.begin();
+          int start = buf.writerIndex();
           buf.writeInt(packet.entityId);
           buf.writeInt(packet.entrySize);
 
@@ -53,6 +57,16 @@ public class SPacketSyncCurios implements CustomPacketPayload {
             buf.writeUtf(entry.getKey());
             buf.writeNbt(entry.getValue());
           }
+          syncEvent.end();
+
+          if (syncEvent.shouldCommit()) {
+            syncEvent.packet = TYPE.id().toString();
+            syncEvent.entityId = packet.entityId;
+            syncEvent.slot = String.join(",", packet.map.keySet());
+            syncEvent.entries = packet.entrySize;
+            syncEvent.bytes = buf.writerIndex() - start;
+            syncEvent.commit();
+          }
         }
       };
 
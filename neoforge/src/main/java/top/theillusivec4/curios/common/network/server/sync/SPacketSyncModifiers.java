@@ -32,6 +32,7 @@ import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import top.theillusivec4.curios.CuriosConstants;
 import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
+import top.theillusivec4.curios.common.jfr.SyncPacketEvent;
 
 public class SPacketSyncModifiers implements CustomPacketPayload {
 
@@ -47,6 +48,9 @@ public class SPacketSyncModifiers implements CustomPacketPayload {
 
         @Override
         public void encode(@Nonnull RegistryFriendlyByteBuf buf, SPacketSyncModifiers packet) {
+          SyncPacketEvent syncEvent = new SyncPacketEvent();
+          syncEvent.begin();
+          int start = buf.writerIndex();
           buf.writeInt(packet.entityId);
           buf.writeInt(packet.entrySize);
 
@@ -54,6 +58,16 @@ public class SPacketSyncModifiers implements CustomPacketPayload {
             buf.writeUtf(entry.getKey());
             buf.writeNbt(entry.getValue());
           }
+          syncEvent.end();
+
+          if (syncEvent.shouldCommit()) {
+            syncEvent.packet = TYPE.id().toString();
+            syncEvent.entityId = packet.entityId;
+            syncEvent.slot = String.join(",", packet.updates.keySet());
+            syncEvent.entries = packet.entrySize;
+            syncEvent.bytes = buf.writerIndex() - start;
+            syncEvent.commit();
+          }
         }
       };
 
@@ -21,6 +21,7 @@
 package top.theillusivec4.curios.common.network.server.sync;
 
 import javax.annotation.Nonnull;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
@@ -29,6 +30,7 @@ import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import top.theillusivec4.curios.CuriosConstants;
+import top.theillusivec4.curios.common.jfr.SyncPacketEvent;
 
 public record SPacketSyncStack(int entityId, String curioId, int slotId, ItemStack stack,
                                int handlerType, CompoundTag compoundTag) implements
@@ -37,13 +39,41 @@ public record SPacketSyncStack(int entityId, String curioId, int slotId, ItemSta
   public static final Type<SPacketSyncStack> TYPE =
       new Type<>(new ResourceLocation(CuriosConstants.MOD_ID, "sync_stack"));
 
-  public static final StreamCodec<RegistryFriendlyByteBuf, SPacketSyncStack> STREAM_CODEC =
+  private static final StreamCodec<RegistryFriendlyByteBuf, SPacketSyncStack> CODEC =
       StreamCodec.composite(ByteBufCodecs.INT, SPacketSyncStack::entityId,
           ByteBufCodecs.STRING_UTF8, SPacketSyncStack::curioId, ByteBufCodecs.INT,
           SPacketSyncStack::slotId, ItemStack.OPTIONAL_STREAM_CODEC, SPacketSyncStack::stack,
           ByteBufCodecs.INT, SPacketSyncStack::handlerType, ByteBufCodecs.COMPOUND_TAG,
           SPacketSyncStack::compoundTag, SPacketSyncStack::new);
 
+  public static final StreamCodec<RegistryFriendlyByteBuf, SPacketSyncStack> STREAM_CODEC =
+      new StreamCodec<>() {
+        @Nonnull
+        @Override
+        public SPacketSyncStack decode(@Nonnull RegistryFriendlyByteBuf buf) {
+          return CODEC.decode(buf);
+        }
+
+        @Override
+        public void encode(@Nonnull RegistryFriendlyByteBuf buf, @Nonnull SPacketSyncStack packet) {
+          SyncPacketEvent syncEvent = new SyncPacketEvent();
+          syncEvent.begin();
+          int start = buf.writerIndex();
+          CODEC.encode(buf, packet);
+          syncEvent.end();
+
+          if (syncEvent.shouldCommit()) {
+            syncEvent.packet = TYPE.id().toString();
+            syncEvent.entityId = packet.entityId();
+            syncEvent.slot = packet.curioId();
+            syncEvent.item = BuiltInRegistries.ITEM.getKey(packet.stack().getItem()).toString();
+            syncEvent.entries = 1;
+            syncEvent.bytes = buf.writerIndex() - start;
+            syncEvent.commit();
+          }
+        }
+      };
+
   @Nonnull
   @Override
   public Type<? extends CustomPacketPayload> type() {
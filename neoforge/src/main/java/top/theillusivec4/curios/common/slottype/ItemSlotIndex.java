@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.slottype;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import net.minecraft.Util;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import top.theillusivec4.curios.CuriosConstants;
+import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.api.SlotIds;
+import top.theillusivec4.curios.api.type.ISlotType;
+import top.theillusivec4.curios.common.data.CuriosSlotManager;
+
+/**
+ * Index from item to the slot types that accept it through item-static validators, which are
+ * {@code curios:all}, {@code curios:none}, and {@code curios:tag}.
+ * <br>
+ * An index is built off-thread for each side after slot types or tags are reloaded, and is
+ * unavailable until the build completes. Slot types with any other validator are marked as dynamic,
+ * and those validators still need to be tested for every stack through
+ * {@link SlotValidators#testDynamic(ISlotType, top.theillusivec4.curios.api.SlotResult)}.
+ */
+public final class ItemSlotIndex {
+
+  private static final BitSet EMPTY = new BitSet();
+
+  private static final AtomicInteger SERVER_GENERATION = new AtomicInteger();
+  private static final AtomicInteger CLIENT_GENERATION = new AtomicInteger();
+  private static volatile ItemSlotIndex server;
+  private static volatile ItemSlotIndex client;
+
+  private final Map<String, ISlotType> slots;
+  private final Map<Item, BitSet> items;
+  private final BitSet dynamicSlots;
+
+  private ItemSlotIndex(Map<String, ISlotType> slots, Map<Item, BitSet> items,
+                        BitSet dynamicSlots) {
+    this.slots = slots;
+    this.items = items;
+    this.dynamicSlots = dynamicSlots;
+  }
+
+  /**
+   * Gets the index for a side.
+   *
+   * @param isClient True for the client side, false for the server side
+   * @return The index, or null if it has not been built for the current slot types yet
+   */
+  @Nullable
+  public static ItemSlotIndex get(boolean isClient) {
+    ItemSlotIndex index = isClient ? client : server;
+
+    if (index != null && index.slots != CuriosApi.getSlots(isClient)) {
+      return null;
+    }
+    return index;
+  }
+
+  /**
+   * Discards the index for a side and starts building a new one on a background thread.
+   *
+   * @param isClient True for the client side, false for the server side
+   */
+  public static void rebuild(boolean isClient) {
+    AtomicInteger generation = isClient ? CLIENT_GENERATION : SERVER_GENERATION;
+    Map<String, ISlotType> slots = isClient ? CuriosSlotManager.CLIENT.getSlots() :
+        CuriosSlotManager.SERVER.getSlots();
+    int current;
+
+    synchronized (ItemSlotIndex.class) {
+      current = generation.incrementAndGet();
+      publish(isClient, null);
+    }
+    CompletableFuture.supplyAsync(() -> build(slots), Util.backgroundExecutor())
+        .whenComplete((index, error) -> {
+
+          if (error != null) {
+            CuriosConstants.LOG.error("Failed to build item slot index", error);
+          } else {
+
+            // Checked and published under the same lock as the rebuild, so that an older build
+            // that completes late cannot replace a newer one
+            synchronized (ItemSlotIndex.class) {
+
+              if (generation.get() == current) {
+                publish(isClient, index);
+              }
+            }
+          }
+        });
+  }
+
+  private static void publish(boolean isClient, @Nullable ItemSlotIndex index) {
+
+    if (isClient) {
+      client = index;
+    } else {
+      server = index;
+    }
+  }
+
+  /**
+   * @param slotType The slot type
+   * @return True if the item-static validators of the slot type were indexed
+   */
+  public boolean isIndexed(ISlotType slotType) {
+    return this.slots.get(slotType.getIdentifier()) == slotType;
+  }
+
+  /**
+   * @param slotType The slot type
+   * @param item     The item
+   * @return True if an item-static validator of the slot type accepts the item
+   */
+  public boolean isValid(ISlotType slotType, Item item) {
+    int id = SlotIds.findId(slotType.getIdentifier());
+    return id >= 0 && this.items.getOrDefault(item, EMPTY).get(id);
+  }
+
+  /**
+   * @param slotType The slot type
+   * @return True if the slot type has validators that need to be tested for every stack
+   */
+  public boolean isDynamic(ISlotType slotType) {
+    int id = SlotIds.findId(slotType.getIdentifier());
+    return id < 0 || this.dynamicSlots.get(id);
+  }
+
+  private static ItemSlotIndex build(Map<String, ISlotType> slots) {
+    Map<Item, BitSet> items = new IdentityHashMap<>();
+    BitSet dynamicSlots = new BitSet();
+    BitSet allSlots = new BitSet();
+    Map<TagKey<Item>, Integer> tagSlots = new IdentityHashMap<>();
+
+    for (ISlotType slotType : slots.values()) {
+      int id = SlotIds.findId(slotType.getIdentifier());
+
+      if (id < 0) {
+        continue;
+      }
+      Set<ResourceLocation> validators = slotType.getValidators();
+
+      for (ResourceLocation validator : validators) {
+
+        if (validator.equals(SlotValidators.ALL)) {
+          allSlots.set(id);
+        } else if (validator.equals(SlotValidators.TAG)) {
+          tagSlots.put(SlotValidators.getSlotTag(slotType.getIdentifier()), id);
+        } else if (!validator.equals(SlotValidators.NONE)) {
+          dynamicSlots.set(id);
+        }
+      }
+    }
+
+    for (Item item : BuiltInRegistries.ITEM) {
+      Holder<Item> holder = item.builtInRegistryHolder();
+      BitSet bits = (BitSet) allSlots.clone();
+
+      if (!tagSlots.isEmpty()) {
+        boolean curio = holder.is(SlotValidators.CURIO_TAG);
+
+        for (Map.Entry<TagKey<Item>, Integer> entry : tagSlots.entrySet()) {
+
+          if (curio || holder.is(entry.getKey())) {
+            bits.set(entry.getValue());
+          }
+        }
+      }
+
+      if (!bits.isEmpty()) {
+        items.put(item, bits);
+      }
+    }
+    return new ItemSlotIndex(slots, items, dynamicSlots);
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.common.slottype;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import top.theillusivec4.curios.api.CuriosApi;
+import top.theillusivec4.curios.api.SlotResult;
+import top.theillusivec4.curios.api.type.ISlotType;
+import top.theillusivec4.curios.mixin.CuriosImplMixinHooks;
+
+/**
+ * Compiles the validators of each slot type into a single predicate, with the slot tag of
+ * {@code curios:tag} resolved once and {@code curios:all} and {@code curios:none} short-circuited.
+ * <br>
+ * Each slot type is compiled into a predicate for all of its validators and a predicate for only
+ * the validators that {@link ItemSlotIndex} does not index. Compiled predicates are published
+ * copy-on-write, so they can be tested from any thread. They are discarded whenever a validator is
+ * registered.
+ */
+public final class SlotValidators {
+
+  public static final ResourceLocation ALL = new ResourceLocation(CuriosApi.MODID, "all");
+  public static final ResourceLocation NONE = new ResourceLocation(CuriosApi.MODID, "none");
+  public static final ResourceLocation TAG = new ResourceLocation(CuriosApi.MODID, "tag");
+  public static final TagKey<Item> CURIO_TAG =
+      ItemTags.create(new ResourceLocation(CuriosApi.MODID, "curio"));
+
+  private static final Predicate<SlotResult> ACCEPT_ALL = slotResult -> true;
+  private static final Predicate<SlotResult> ACCEPT_NONE = slotResult -> false;
+  private static final Map<String, TagKey<Item>> SLOT_TAGS = new ConcurrentHashMap<>();
+
+  private static volatile Map<ISlotType, Compiled> compiled = Map.of();
+
+  /**
+   * @param identifier The identifier of the slot type
+   * @return The {@code curios:<identifier>} item tag
+   */
+  public static TagKey<Item> getSlotTag(String identifier) {
+    return SLOT_TAGS.computeIfAbsent(identifier,
+        id -> ItemTags.create(new ResourceLocation(CuriosApi.MODID, id)));
+  }
+
+  /**
+   * Tests a slot result against the compiled validators of a slot type, compiling them if needed.
+   *
+   * @param slotType   The slot type
+   * @param slotResult The slot result to test
+   * @return True if any validator of the slot type accepts the slot result
+   */
+  public static boolean test(ISlotType slotType, SlotResult slotResult) {
+    return getCompiled(slotType).all().test(slotResult);
+  }
+
+  /**
+   * Tests a slot result against only the validators of a slot type that are not item-static, for
+   * slot types whose item-static validators were already checked through {@link ItemSlotIndex}.
+   *
+   * @param slotType   The slot type
+   * @param slotResult The slot result to test
+   * @return True if any validator of the slot type that is not item-static accepts the slot result
+   */
+  public static boolean testDynamic(ISlotType slotType, SlotResult slotResult) {
+    return getCompiled(slotType).dynamic().test(slotResult);
+  }
+
+  private static Compiled getCompiled(ISlotType slotType) {
+    Compiled result = compiled.get(slotType);
+
+    if (result == null) {
+      result = compile(slotType);
+
+      synchronized (SlotValidators.class) {
+        Map<ISlotType, Compiled> map = new IdentityHashMap<>(compiled);
+        map.put(slotType, result);
+        compiled = map;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Compiles the validators of the given slot types, discarding previously compiled validators
+   * except those of the retained slot types.
+   *
+   * @param slotTypes The slot types to compile
+   * @param retained  The slot types, such as those of the other side, to keep if already compiled
+   */
+  public static void compileAll(Collection<ISlotType> slotTypes, Collection<ISlotType> retained) {
+    Map<ISlotType, Compiled> map = new IdentityHashMap<>();
+
+    for (ISlotType slotType : slotTypes) {
+      map.put(slotType, compile(slotType));
+    }
+
+    synchronized (SlotValidators.class) {
+      Map<ISlotType, Compiled> current = compiled;
+
+      for (ISlotType slotType : retained) {
+        Compiled result = current.get(slotType);
+
+        if (result != null) {
+          map.putIfAbsent(slotType, result);
+        }
+      }
+      compiled = map;
+    }
+  }
+
+  public static void invalidate() {
+
+    synchronized (SlotValidators.class) {
+      compiled = Map.of();
+    }
+  }
+
+  private static Compiled compile(ISlotType slotType) {
+    List<Predicate<SlotResult>> predicates = new ArrayList<>();
+    List<Predicate<SlotResult>> dynamicPredicates = new ArrayList<>();
+    boolean all = false;
+
+    for (ResourceLocation validator : slotType.getValidators()) {
+
+      if (validator.equals(ALL)) {
+        all = true;
+      } else if (validator.equals(TAG)) {
+        TagKey<Item> slotTag = getSlotTag(slotType.getIdentifier());
+        predicates.add(slotResult -> {
+          ItemStack stack = slotResult.stack();
+          return stack.is(slotTag) || stack.is(CURIO_TAG);
+        });
+      } else if (!validator.equals(NONE)) {
+        Predicate<SlotResult> predicate =
+            CuriosImplMixinHooks.getCurioPredicates().get(validator);
+
+        if (predicate != null) {
+          predicates.add(predicate);
+          dynamicPredicates.add(predicate);
+        }
+      }
+    }
+    return new Compiled(all ? ACCEPT_ALL : anyOf(predicates), anyOf(dynamicPredicates));
+  }
+
+  private static Predicate<SlotResult> anyOf(List<Predicate<SlotResult>> predicates) {
+
+    if (predicates.isEmpty()) {
+      return ACCEPT_NONE;
+    } else if (predicates.size() == 1) {
+      return predicates.getFirst();
+    }
+    List<Predicate<SlotResult>> list = List.copyOf(predicates);
+    return slotResult -> {
+
+      for (Predicate<SlotResult> predicate : list) {
+
+        if (predicate.test(slotResult)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  private record Compiled(Predicate<SlotResult> all, Predicate<SlotResult> dynamic) {
+
+  }
+}
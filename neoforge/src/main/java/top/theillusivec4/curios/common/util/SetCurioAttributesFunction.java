@@ -54,8 +54,10 @@ import net.minecraft.world.level.storage.loot.parameters.LootContextParam;
 import net.minecraft.world.level.storage.loot.predicates.LootItemCondition;
 import net.minecraft.world.level.storage.loot.providers.number.NumberProvider;
 import net.minecraft.world.level.storage.loot.providers.number.NumberProviders;
+import top.theillusivec4.curios.api.CurioAttributeModifiers;
 import top.theillusivec4.curios.api.CuriosApi;
 import top.theillusivec4.curios.api.SlotAttribute;
+import top.theillusivec4.curios.common.CuriosRegistry;
 
 public class SetCurioAttributesFunction extends LootItemConditionalFunction {
 
@@ -105,19 +107,17 @@ public class SetCurioAttributesFunction extends LootItemConditionalFunction {
   @Nonnull
   public ItemStack run(@Nonnull ItemStack stack, LootContext context) {
     RandomSource random = context.getRandom();
+    CurioAttributeModifiers.Builder builder =
+        stack.getOrDefault(CuriosRegistry.CURIO_ATTRIBUTE_MODIFIERS, CurioAttributeModifiers.EMPTY)
+            .toBuilder();
 
     for (Modifier modifier : this.modifiers) {
-      UUID uuid = modifier.id.orElse(null);
+      UUID uuid = modifier.id.orElseGet(UUID::randomUUID);
       String slot = Util.getRandom(modifier.slots, random);
-
-      if (modifier.attribute.value() instanceof SlotAttribute wrapper) {
-        CuriosApi.addSlotModifier(stack, wrapper.getIdentifier(), modifier.name, uuid,
-            modifier.amount.getFloat(context), modifier.operation, slot);
-      } else {
-        CuriosApi.addModifier(stack, modifier.attribute, modifier.name, uuid,
-            modifier.amount.getFloat(context), modifier.operation, slot);
-      }
+      builder.add(modifier.attribute, new AttributeModifier(uuid, modifier.name,
+          modifier.amount.getFloat(context), modifier.operation), slot);
     }
+    stack.set(CuriosRegistry.CURIO_ATTRIBUTE_MODIFIERS, builder.build());
     return stack;
   }
 
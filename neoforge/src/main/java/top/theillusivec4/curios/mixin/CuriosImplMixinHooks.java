@@ -20,23 +20,25 @@
 
 package top.theillusivec4.curios.mixin;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import net.minecraft.core.Holder;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.tags.ItemTags;
-import net.minecraft.tags.TagKey;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.attributes.Attribute;
@@ -52,20 +54,31 @@ import top.theillusivec4.curios.api.CuriosApi;
 import top.theillusivec4.curios.api.CuriosCapability;
 import top.theillusivec4.curios.api.SlotAttribute;
 import top.theillusivec4.curios.api.SlotContext;
+import top.theillusivec4.curios.api.SlotIds;
 import top.theillusivec4.curios.api.SlotResult;
 import top.theillusivec4.curios.api.event.CurioAttributeModifierEvent;
 import top.theillusivec4.curios.api.type.ISlotType;
 import top.theillusivec4.curios.api.type.capability.ICurio;
 import top.theillusivec4.curios.api.type.capability.ICurioItem;
 import top.theillusivec4.curios.api.type.capability.ICuriosItemHandler;
+import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
 import top.theillusivec4.curios.common.CuriosRegistry;
 import top.theillusivec4.curios.common.data.CuriosEntityManager;
 import top.theillusivec4.curios.common.data.CuriosSlotManager;
+import top.theillusivec4.curios.common.jfr.AttributeModifiersEvent;
 import top.theillusivec4.curios.common.network.server.SPacketBreak;
+import top.theillusivec4.curios.common.slottype.ItemSlotIndex;
+import top.theillusivec4.curios.common.slottype.SlotValidators;
 
 public class CuriosImplMixinHooks {
 
   private static final Map<Item, ICurioItem> REGISTRY = new ConcurrentHashMap<>();
+  // Weak keys are compared by identity, so each component is keyed on the instance shared by its
+  // stack and copies of it, and its entries are released along with the component
+  private static final LoadingCache<CurioAttributeModifiers,
+      Map<ModifierKey, Multimap<Holder<Attribute>, AttributeModifier>>> MODIFIER_CACHE =
+      CacheBuilder.newBuilder().weakKeys()
+          .build(CacheLoader.from(attributeModifiers -> new ConcurrentHashMap<>()));
 
   public static void registerCurio(Item item, ICurioItem icurio) {
     REGISTRY.put(item, icurio);
@@ -87,21 +100,41 @@ public class CuriosImplMixinHooks {
   }
 
   public static Map<String, ISlotType> getItemStackSlots(ItemStack stack, boolean isClient) {
-    return filteredSlots(slotType -> {
-      SlotContext slotContext = new SlotContext(slotType.getIdentifier(), null, 0, false, true);
-      SlotResult slotResult = new SlotResult(slotContext, stack);
-      return CuriosApi.testCurioPredicates(slotType.getValidators(), slotResult);
-    }, CuriosApi.getSlots(isClient));
+    ItemSlotIndex index = ItemSlotIndex.get(isClient);
+    return filteredSlots(slotType -> isValidSlot(index, slotType, null, stack),
+        CuriosApi.getSlots(isClient));
   }
 
   public static Map<String, ISlotType> getItemStackSlots(ItemStack stack,
                                                          LivingEntity livingEntity) {
-    return filteredSlots(slotType -> {
-      SlotContext slotContext =
-          new SlotContext(slotType.getIdentifier(), livingEntity, 0, false, true);
-      SlotResult slotResult = new SlotResult(slotContext, stack);
-      return CuriosApi.testCurioPredicates(slotType.getValidators(), slotResult);
-    }, CuriosApi.getEntitySlots(livingEntity));
+    ItemSlotIndex index = ItemSlotIndex.get(livingEntity.level().isClientSide());
+    return filteredSlots(slotType -> isValidSlot(index, slotType, livingEntity, stack),
+        CuriosApi.getEntitySlots(livingEntity));
+  }
+
+  private static boolean isValidSlot(@Nullable ItemSlotIndex index, @Nullable ISlotType slotType,
+                                     @Nullable LivingEntity livingEntity, ItemStack stack) {
+
+    if (slotType == null) {
+      return false;
+    }
+
+    boolean indexed = index != null && index.isIndexed(slotType);
+
+    if (indexed) {
+
+      if (index.isValid(slotType, stack.getItem())) {
+        return true;
+      } else if (!index.isDynamic(slotType)) {
+        return false;
+      }
+    }
+    SlotContext slotContext =
+        new SlotContext(slotType.getIdentifier(), livingEntity, 0, false, true);
+    SlotResult slotResult = new SlotResult(slotContext, stack);
+    // The index already rejected the item-static validators, so only the others are tested
+    return indexed ? SlotValidators.testDynamic(slotType, slotResult) :
+        SlotValidators.test(slotType, slotResult);
   }
 
   private static Map<String, ISlotType> filteredSlots(Predicate<ISlotType> filter,
@@ -134,98 +167,139 @@ public class CuriosImplMixinHooks {
   public static boolean isStackValid(SlotContext slotContext, ItemStack stack) {
     String id = slotContext.identifier();
     LivingEntity entity = slotContext.entity();
-    Map<String, ISlotType> map;
-
-    if (entity != null) {
-      map = getItemStackSlots(stack, entity);
-    } else {
-      map = getItemStackSlots(stack, FMLLoader.getDist() == Dist.CLIENT);
+    boolean isClient =
+        entity != null ? entity.level().isClientSide() : FMLLoader.getDist() == Dist.CLIENT;
+    ItemSlotIndex index = ItemSlotIndex.get(isClient);
+    Map<String, ISlotType> slots =
+        entity != null ? CuriosApi.getEntitySlots(entity) : CuriosApi.getSlots(isClient);
+
+    if (!id.equals("curio")) {
+      return isValidSlot(index, slots.get(id), entity, stack) ||
+          isValidSlot(index, slots.get("curio"), entity, stack);
     }
-    Set<String> slots = map.keySet();
 
-    if (!slots.isEmpty()) {
-      return id.equals("curio") || slots.contains(id) || slots.contains("curio");
-    } else if (id.equals("curio")) {
-      // If there are no slots available to confirm validity for the generic curio slot,
-      // perform fallback checks
+    for (ISlotType slotType : slots.values()) {
 
-      // tags
-      if (stack.getTags()
-          .anyMatch(tagKey -> tagKey.location().getNamespace().equals(CuriosApi.MODID))) {
+      if (isValidSlot(index, slotType, entity, stack)) {
         return true;
       }
+    }
 
-      // predicates
-      Map<String, ISlotType> allSlots = CuriosApi.getSlots(false);
-      SlotResult slotResult = new SlotResult(slotContext, stack);
+    // If there are no slots available to confirm validity for the generic curio slot,
+    // perform fallback checks
 
-      for (Map.Entry<String, ISlotType> entry : allSlots.entrySet()) {
-        ISlotType slotType = entry.getValue();
+    // tags
+    if (stack.getTags()
+        .anyMatch(tagKey -> tagKey.location().getNamespace().equals(CuriosApi.MODID))) {
+      return true;
+    }
 
-        for (ResourceLocation validator : slotType.getValidators()) {
+    // predicates
+    Map<String, ISlotType> allSlots = CuriosApi.getSlots(false);
+    SlotResult slotResult = new SlotResult(slotContext, stack);
 
-          if (CuriosApi.getCurioPredicate(validator).map(val -> val.test(slotResult))
-              .orElse(false)) {
-            return true;
-          }
-        }
-      }
+    for (Map.Entry<String, ISlotType> entry : allSlots.entrySet()) {
+      ISlotType slotType = entry.getValue();
 
-      // capability
-      return CuriosApi.getCurio(stack).isPresent();
+      if (testCurioPredicates(slotType.getValidators(), slotResult)) {
+        return true;
+      }
     }
-    return false;
+
+    // capability
+    return CuriosApi.getCurio(stack).isPresent();
   }
 
   public static Multimap<Holder<Attribute>, AttributeModifier> getAttributeModifiers(
       SlotContext slotContext, UUID uuid, ItemStack stack) {
-    Multimap<Holder<Attribute>, AttributeModifier> multimap = LinkedHashMultimap.create();
+    return LinkedHashMultimap.create(getCachedAttributeModifiers(slotContext, uuid, stack));
+  }
+
+  /**
+   * Retrieves the attribute modifiers for an ItemStack like
+   * {@link CuriosApi#getAttributeModifiers(SlotContext, UUID, ItemStack)}, but the result may be
+   * shared between calls and must not be modified.
+   * <br>
+   * The modifiers read from the {@link CuriosRegistry#CURIO_ATTRIBUTE_MODIFIERS} component are
+   * cached per component instance, slot identifier, UUID and side. Modifiers from the curio of
+   * stacks without the component and the {@link CurioAttributeModifierEvent} are resolved on every
+   * call, as they may depend on the wearer.
+   */
+  public static Multimap<Holder<Attribute>, AttributeModifier> getCachedAttributeModifiers(
+      SlotContext slotContext, UUID uuid, ItemStack stack) {
+    AttributeModifiersEvent modifiersEvent = new AttributeModifiersEvent();
+    modifiersEvent.begin();
     CurioAttributeModifiers attributemodifiers =
         stack.getOrDefault(CuriosRegistry.CURIO_ATTRIBUTE_MODIFIERS, CurioAttributeModifiers.EMPTY);
+    Multimap<Holder<Attribute>, AttributeModifier> multimap;
 
     if (!attributemodifiers.modifiers().isEmpty()) {
+      LivingEntity livingEntity = slotContext.entity();
+      boolean clientSide = livingEntity == null || livingEntity.level().isClientSide();
+      ModifierKey key = new ModifierKey(slotContext.identifier(), uuid, clientSide);
+      multimap = MODIFIER_CACHE.getUnchecked(attributemodifiers).computeIfAbsent(key,
+          k -> resolveAttributeModifiers(attributemodifiers, k.identifier(), uuid, clientSide));
+    } else {
+      ICurio curio = getCurio(stack).orElse(null);
+      multimap = curio != null ? curio.getAttributeModifiers(slotContext, uuid) :
+          ImmutableSetMultimap.of();
+    }
+    CurioAttributeModifierEvent evt =
+        new CurioAttributeModifierEvent(stack, slotContext, uuid, multimap);
+    NeoForge.EVENT_BUS.post(evt);
+    Multimap<Holder<Attribute>, AttributeModifier> result = evt.getModifiers();
+    modifiersEvent.end();
+
+    if (modifiersEvent.shouldCommit()) {
+      LivingEntity livingEntity = slotContext.entity();
+      modifiersEvent.entityType = livingEntity != null ?
+          BuiltInRegistries.ENTITY_TYPE.getKey(livingEntity.getType()).toString() : "";
+      modifiersEvent.slot = slotContext.identifier();
+      modifiersEvent.item = BuiltInRegistries.ITEM.getKey(stack.getItem()).toString();
+      modifiersEvent.modifiers = result.size();
+      modifiersEvent.commit();
+    }
+    return result;
+  }
 
-      for (CurioAttributeModifiers.Entry modifier : attributemodifiers.modifiers()) {
-
-        if (modifier.slot().equals(slotContext.identifier())) {
-          ResourceLocation rl = modifier.attribute();
-          AttributeModifier attributeModifier = modifier.modifier();
-
-          if (rl != null) {
-
-            if (uuid.getLeastSignificantBits() != 0L && uuid.getMostSignificantBits() != 0L) {
-              AttributeModifier.Operation operation = attributeModifier.operation();
-              double amount = attributeModifier.amount();
-              String name = attributeModifier.name();
-
-              if (rl.getNamespace().equals("curios")) {
-                String identifier1 = rl.getPath();
-                LivingEntity livingEntity = slotContext.entity();
-                boolean clientSide = livingEntity == null || livingEntity.level().isClientSide();
-
-                if (CuriosApi.getSlot(identifier1, clientSide).isPresent()) {
-                  CuriosApi.addSlotModifier(multimap, identifier1, uuid, amount, operation);
-                }
-              } else {
-                Holder<Attribute> attribute =
-                    BuiltInRegistries.ATTRIBUTE.getHolder(rl).orElse(null);
+  public static void clearAttributeModifierCache() {
+    MODIFIER_CACHE.invalidateAll();
+  }
 
-                if (attribute != null) {
-                  multimap.put(attribute, new AttributeModifier(uuid, name, amount, operation));
-                }
-              }
-            }
+  private static Multimap<Holder<Attribute>, AttributeModifier> resolveAttributeModifiers(
+      CurioAttributeModifiers attributemodifiers, String identifier, UUID uuid,
+      boolean clientSide) {
+    ImmutableSetMultimap.Builder<Holder<Attribute>, AttributeModifier> multimap =
+        ImmutableSetMultimap.builder();
+
+    for (CurioAttributeModifiers.ResolvedEntry modifier :
+        attributemodifiers.getModifiers(identifier)) {
+      Holder<Attribute> attribute = modifier.attribute();
+      AttributeModifier attributeModifier = modifier.modifier();
+
+      if (attribute != null &&
+          uuid.getLeastSignificantBits() != 0L && uuid.getMostSignificantBits() != 0L) {
+        AttributeModifier.Operation operation = attributeModifier.operation();
+        double amount = attributeModifier.amount();
+        String name = attributeModifier.name();
+
+        if (attribute.value() instanceof SlotAttribute wrapper) {
+          String identifier1 = wrapper.getIdentifier();
+
+          if (CuriosApi.getSlot(identifier1, clientSide).isPresent()) {
+            multimap.put(SlotAttribute.getOrCreate(identifier1),
+                new AttributeModifier(uuid, identifier1, amount, operation));
           }
+        } else {
+          multimap.put(attribute, new AttributeModifier(uuid, name, amount, operation));
         }
       }
-    } else {
-      multimap = getCurio(stack).map(curio -> curio.getAttributeModifiers(slotContext, uuid))
-          .orElse(multimap);
     }
-    CurioAttributeModifierEvent evt =
-        new CurioAttributeModifierEvent(stack, slotContext, uuid, multimap);
-    NeoForge.EVENT_BUS.post(evt);
-    return LinkedHashMultimap.create(evt.getModifiers());
+    return multimap.build();
+  }
+
+  private record ModifierKey(String identifier, UUID uuid, boolean clientSide) {
+
   }
 
   public static void addSlotModifier(Multimap<Holder<Attribute>, AttributeModifier> map,
@@ -256,57 +330,105 @@ public class CuriosImplMixinHooks {
       uuid = UUID.randomUUID();
     }
     AttributeModifier attributeModifier = new AttributeModifier(uuid, name, amount, operation);
-    CurioAttributeModifiers.Entry entry =
-        new CurioAttributeModifiers.Entry(rl, attributeModifier, slot);
     CurioAttributeModifiers curioAttributeModifiers =
         stack.getOrDefault(CuriosRegistry.CURIO_ATTRIBUTE_MODIFIERS, CurioAttributeModifiers.EMPTY);
-    List<CurioAttributeModifiers.Entry> list = new ArrayList<>(curioAttributeModifiers.modifiers());
-    list.add(entry);
     stack.set(CuriosRegistry.CURIO_ATTRIBUTE_MODIFIERS,
-        new CurioAttributeModifiers(list, curioAttributeModifiers.showInTooltip()));
+        curioAttributeModifiers.toBuilder().add(rl, attributeModifier, slot).build());
   }
 
   public static void broadcastCurioBreakEvent(SlotContext slotContext) {
     LivingEntity livingEntity = slotContext.entity();
 
     if (livingEntity != null) {
+      // The stack is used up in place, so flag the slot for change detection
+      getCuriosInventory(livingEntity)
+          .flatMap(handler -> handler.getStacksHandler(slotContext.identifier()))
+          .ifPresent(stacksHandler -> {
+            IDynamicStackHandler stacks = slotContext.cosmetic() ?
+                stacksHandler.getCosmeticStacks() : stacksHandler.getStacks();
+
+            if (slotContext.index() >= 0 && slotContext.index() < stacks.getSlots()) {
+              stacks.markChanged(slotContext.index());
+            }
+          });
       PacketDistributor.sendToPlayersTrackingEntityAndSelf(livingEntity,
           new SPacketBreak(livingEntity.getId(), slotContext.identifier(), slotContext.index()));
     }
   }
 
-  private static final Map<String, UUID> UUIDS = new HashMap<>();
+  private static volatile UUID[][] slotUuids = new UUID[0][];
 
   public static UUID getSlotUuid(SlotContext slotContext) {
-    String key = slotContext.identifier() + slotContext.index();
-    return UUIDS.computeIfAbsent(key, (k) -> UUID.nameUUIDFromBytes(k.getBytes()));
+    int index = slotContext.index();
+    int slotId = slotContext.slotId();
+
+    if (index < 0 || slotId < 0) {
+      return createSlotUuid(slotContext.identifier(), index);
+    }
+    UUID[][] table = slotUuids;
+    UUID[] uuids = slotId < table.length ? table[slotId] : null;
+    UUID uuid = uuids != null && index < uuids.length ? uuids[index] : null;
+    return uuid != null ? uuid : cacheSlotUuid(slotContext.identifier(), slotId, index);
   }
 
+  private static synchronized UUID cacheSlotUuid(String identifier, int slotId, int index) {
+    UUID[][] table = slotUuids;
+
+    if (slotId >= table.length) {
+      table = Arrays.copyOf(table, Math.max(slotId + 1, SlotIds.size()));
+    }
+    UUID[] uuids = table[slotId];
 
-  private static final Map<ResourceLocation, Predicate<SlotResult>> SLOT_RESULT_PREDICATES =
-      new HashMap<>();
+    if (uuids == null || index >= uuids.length) {
+      uuids = uuids == null ? new UUID[index + 1] :
+          Arrays.copyOf(uuids, Math.max(index + 1, uuids.length * 2));
+    }
+    UUID uuid = uuids[index];
 
-  public static void registerCurioPredicate(ResourceLocation resourceLocation,
-                                            Predicate<SlotResult> validator) {
-    SLOT_RESULT_PREDICATES.putIfAbsent(resourceLocation, validator);
+    if (uuid == null) {
+      uuid = createSlotUuid(identifier, index);
+      uuids[index] = uuid;
+    }
+    table[slotId] = uuids;
+    slotUuids = table;
+    return uuid;
+  }
+
+  private static UUID createSlotUuid(String identifier, int index) {
+    return UUID.nameUUIDFromBytes((identifier + index).getBytes());
+  }
+
+
+  private static volatile Map<ResourceLocation, Predicate<SlotResult>> slotResultPredicates =
+      ImmutableMap.of();
+
+  public static synchronized void registerCurioPredicate(ResourceLocation resourceLocation,
+                                                         Predicate<SlotResult> validator) {
+
+    if (!slotResultPredicates.containsKey(resourceLocation)) {
+      slotResultPredicates = ImmutableMap.<ResourceLocation, Predicate<SlotResult>>builder()
+          .putAll(slotResultPredicates).put(resourceLocation, validator).build();
+      SlotValidators.invalidate();
+    }
   }
 
   public static Optional<Predicate<SlotResult>> getCurioPredicate(
       ResourceLocation resourceLocation) {
-    return Optional.ofNullable(SLOT_RESULT_PREDICATES.get(resourceLocation));
+    return Optional.ofNullable(slotResultPredicates.get(resourceLocation));
   }
 
   public static Map<ResourceLocation, Predicate<SlotResult>> getCurioPredicates() {
-    return ImmutableMap.copyOf(SLOT_RESULT_PREDICATES);
+    return slotResultPredicates;
   }
 
   public static boolean testCurioPredicates(Set<ResourceLocation> predicates,
                                             SlotResult slotResult) {
+    Map<ResourceLocation, Predicate<SlotResult>> map = slotResultPredicates;
 
     for (ResourceLocation id : predicates) {
+      Predicate<SlotResult> predicate = map.get(id);
 
-      if (CuriosApi.getCurioPredicate(id).map(
-          slotResultPredicate -> slotResultPredicate.test(slotResult)).orElse(false)) {
+      if (predicate != null && predicate.test(slotResult)) {
         return true;
       }
     }
@@ -314,15 +436,12 @@ public class CuriosImplMixinHooks {
   }
 
   static {
-    registerCurioPredicate(new ResourceLocation(CuriosApi.MODID, "all"), (slotResult) -> true);
-    registerCurioPredicate(new ResourceLocation(CuriosApi.MODID, "none"),
-        (slotResult) -> false);
-    registerCurioPredicate(new ResourceLocation(CuriosApi.MODID, "tag"), (slotResult) -> {
+    registerCurioPredicate(SlotValidators.ALL, (slotResult) -> true);
+    registerCurioPredicate(SlotValidators.NONE, (slotResult) -> false);
+    registerCurioPredicate(SlotValidators.TAG, (slotResult) -> {
       String id = slotResult.slotContext().identifier();
-      TagKey<Item> tag1 = ItemTags.create(new ResourceLocation(CuriosApi.MODID, id));
-      TagKey<Item> tag2 = ItemTags.create(new ResourceLocation(CuriosApi.MODID, "curio"));
       ItemStack stack = slotResult.stack();
-      return stack.is(tag1) || stack.is(tag2);
+      return stack.is(SlotValidators.getSlotTag(id)) || stack.is(SlotValidators.CURIO_TAG);
     });
   }
 }
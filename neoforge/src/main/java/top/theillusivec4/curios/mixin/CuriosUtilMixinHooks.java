@@ -24,8 +24,6 @@ import com.mojang.datafixers.DSL;
 import com.mojang.datafixers.schemas.Schema;
 import com.mojang.datafixers.types.templates.TypeTemplate;
 import com.mojang.datafixers.util.Pair;
-import java.util.Map;
-import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -40,12 +38,15 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.storage.loot.LootContext;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.neoforged.neoforge.items.IItemHandler;
-import net.neoforged.neoforge.items.IItemHandlerModifiable;
 import org.apache.commons.lang3.ArrayUtils;
 import top.theillusivec4.curios.api.CuriosApi;
-import top.theillusivec4.curios.api.SlotContext;
+import top.theillusivec4.curios.api.CuriosCapability;
+import top.theillusivec4.curios.api.type.capability.ICurio;
+import top.theillusivec4.curios.api.type.capability.ICuriosItemHandler;
 import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
 import top.theillusivec4.curios.api.type.inventory.IDynamicStackHandler;
+import top.theillusivec4.curios.common.capability.CurioAbilities;
+import top.theillusivec4.curios.common.capability.CurioInventoryCapability;
 
 public class CuriosUtilMixinHooks {
 
@@ -69,52 +70,86 @@ public class CuriosUtilMixinHooks {
         ));
   }
 
+  /**
+   * Gets the number of writes to the components of a stack, which changes whenever a component of
+   * the stack is set or removed in place.
+   *
+   * @param stack The stack
+   * @return The number of writes to the components of the stack
+   */
+  public static int getComponentWrites(ItemStack stack) {
+    return stack.getComponents() instanceof IComponentWriteCounter counter ?
+        counter.curios$getWrites() : 0;
+  }
+
   public static boolean canNeutralizePiglins(LivingEntity livingEntity) {
-    return CuriosApi.getCuriosInventory(livingEntity).map(handler -> {
+    ICuriosItemHandler handler = livingEntity.getCapability(CuriosCapability.INVENTORY);
+
+    if (handler == null ||
+        !hasAbility(handler, CurioAbilities.PIGLIN_NEUTRAL | CurioAbilities.DYNAMIC)) {
+      return false;
+    } else if (hasAbility(handler, CurioAbilities.PIGLIN_NEUTRAL)) {
+      return true;
+    }
+
+    for (ICurioStacksHandler stacksHandler : handler.getCurios().values()) {
+      IDynamicStackHandler stacks = stacksHandler.getStacks();
 
-      for (Map.Entry<String, ICurioStacksHandler> entry : handler.getCurios().entrySet()) {
-        IDynamicStackHandler stacks = entry.getValue().getStacks();
+      for (int i = 0; i < stacks.getSlots(); i++) {
+        ItemStack stack = stacks.getStackInSlot(i);
 
-        for (int i = 0; i < stacks.getSlots(); i++) {
-          final int index = i;
-          NonNullList<Boolean> renderStates = entry.getValue().getRenders();
-          boolean canNeutralize =
-              CuriosApi.getCurio(stacks.getStackInSlot(i)).map(curio -> curio
-                      .makesPiglinsNeutral(new SlotContext(entry.getKey(), livingEntity, index, false,
-                          renderStates.size() > index && renderStates.get(index))))
-                  .orElse(false);
+        if (!stack.isEmpty()) {
+          ICurio curio = stacks.getCurio(i);
 
-          if (canNeutralize) {
+          if (curio != null && curio.makesPiglinsNeutral(
+              stacksHandler.getSlotContext(livingEntity, i, false))) {
             return true;
           }
         }
       }
-      return false;
-    }).orElse(false);
+    }
+    return false;
   }
 
   public static boolean canWalkOnPowderSnow(LivingEntity livingEntity) {
-    return CuriosApi.getCuriosInventory(livingEntity).map(handler -> {
+    ICuriosItemHandler handler = livingEntity.getCapability(CuriosCapability.INVENTORY);
+
+    if (handler == null ||
+        !hasAbility(handler, CurioAbilities.POWDER_SNOW_WALKER | CurioAbilities.DYNAMIC)) {
+      return false;
+    } else if (hasAbility(handler, CurioAbilities.POWDER_SNOW_WALKER)) {
+      return true;
+    }
 
-      for (Map.Entry<String, ICurioStacksHandler> entry : handler.getCurios().entrySet()) {
-        IDynamicStackHandler stacks = entry.getValue().getStacks();
+    for (ICurioStacksHandler stacksHandler : handler.getCurios().values()) {
+      IDynamicStackHandler stacks = stacksHandler.getStacks();
 
-        for (int i = 0; i < stacks.getSlots(); i++) {
-          final int index = i;
-          NonNullList<Boolean> renderStates = entry.getValue().getRenders();
-          boolean canWalk =
-              CuriosApi.getCurio(stacks.getStackInSlot(i)).map(curio -> curio
-                      .canWalkOnPowderedSnow(new SlotContext(entry.getKey(), livingEntity, index, false,
-                          renderStates.size() > index && renderStates.get(index))))
-                  .orElse(false);
+      for (int i = 0; i < stacks.getSlots(); i++) {
+        ItemStack stack = stacks.getStackInSlot(i);
 
-          if (canWalk) {
+        if (!stack.isEmpty()) {
+          ICurio curio = stacks.getCurio(i);
+
+          if (curio != null && curio.canWalkOnPowderedSnow(
+              stacksHandler.getSlotContext(livingEntity, i, false))) {
             return true;
           }
         }
       }
-      return false;
-    }).orElse(false);
+    }
+    return false;
+  }
+
+  /**
+   * Checks the cached ability summary of the inventory, if it has one.
+   *
+   * @param handler   The curios inventory
+   * @param abilities The {@link CurioAbilities} flags to check for
+   * @return True if any of the flags are set, or if the inventory does not cache its abilities
+   */
+  public static boolean hasAbility(ICuriosItemHandler handler, int abilities) {
+    return !(handler instanceof CurioInventoryCapability inventory) ||
+        (inventory.getAbilities() & abilities) != 0;
   }
 
   public static int getFortuneLevel(Player player) {
@@ -134,18 +169,25 @@ public class CuriosUtilMixinHooks {
   }
 
   public static boolean isFreezeImmune(LivingEntity livingEntity) {
-    return CuriosApi.getCuriosInventory(livingEntity).map(curios -> {
-      IItemHandlerModifiable handler = curios.getEquippedCurios();
+    ICuriosItemHandler handler = livingEntity.getCapability(CuriosCapability.INVENTORY);
 
-      for (int i = 0; i < handler.getSlots(); i++) {
-        ItemStack stack = handler.getStackInSlot(i);
+    if (handler == null) {
+      return false;
+    } else if (handler instanceof CurioInventoryCapability inventory) {
+      return (inventory.getAbilities() & CurioAbilities.FREEZE_IMMUNE) != 0;
+    }
+
+    for (ICurioStacksHandler stacksHandler : handler.getCurios().values()) {
+      IDynamicStackHandler stacks = stacksHandler.getStacks();
+
+      for (int i = 0; i < stacks.getSlots(); i++) {
 
-        if (stack.is(ItemTags.FREEZE_IMMUNE_WEARABLES)) {
+        if (stacks.getStackInSlot(i).is(ItemTags.FREEZE_IMMUNE_WEARABLES)) {
           return true;
         }
       }
-      return false;
-    }).orElse(false);
+    }
+    return false;
   }
 
   public static CompoundTag mergeCuriosInventory(CompoundTag compoundTag, Entity entity) {
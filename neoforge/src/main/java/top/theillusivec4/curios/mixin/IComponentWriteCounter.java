@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+package top.theillusivec4.curios.mixin;
+
+/**
+ * Implemented on {@link net.minecraft.core.component.PatchedDataComponentMap} to count the writes
+ * to its patch, so that changes to the components of a stack can be detected without copying or
+ * comparing them.
+ */
+public interface IComponentWriteCounter {
+
+  /**
+   * @return The number of writes to the patch of this component map so far
+   */
+  int curios$getWrites();
+}
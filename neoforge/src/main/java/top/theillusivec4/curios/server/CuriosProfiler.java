@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2018-2024 C4
+ *
+ * This file is part of Curios, a mod made for Minecraft.
+ *
+ * Curios is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published
+ * by the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Curios is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with Curios.  If not, see <https://www.gnu.org/licenses/>.
+ *
+ */
+
+package top.theillusivec4.curios.server;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.fml.loading.FMLPaths;
+import top.theillusivec4.curios.CuriosConstants;
+
+/**
+ * Aggregates timings of the phases of the curio tick by item and slot identifier.
+ * <br>
+ * Phases are measured by calling {@link CuriosProfiler#push()} before and
+ * {@link CuriosProfiler#pop(Phase, String, ItemStack)} after the measured code. Both calls return
+ * immediately while the profiler is not running.
+ */
+public final class CuriosProfiler {
+
+  private static final DateTimeFormatter FILE_FORMAT =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+  private static final int BUCKETS = 40;
+  private static final int MAX_DEPTH = 16;
+
+  private static final Map<Key, Entry> ENTRIES = new HashMap<>();
+  private static final long[] START_NANOS = new long[MAX_DEPTH];
+  private static final long[] START_BYTES = new long[MAX_DEPTH];
+
+  private static boolean running = false;
+  private static Thread thread;
+  private static int depth;
+  private static long startTime;
+  private static long duration;
+  private static com.sun.management.ThreadMXBean allocationBean;
+
+  public static boolean isRunning() {
+    return running;
+  }
+
+  public static void start() {
+    ENTRIES.clear();
+    depth = 0;
+    duration = 0;
+    thread = Thread.currentThread();
+    allocationBean = null;
+    ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+    if (bean instanceof com.sun.management.ThreadMXBean sunBean &&
+        sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+      allocationBean = sunBean;
+    }
+    startTime = System.nanoTime();
+    running = true;
+  }
+
+  public static void stop() {
+
+    if (running) {
+      running = false;
+      duration = System.nanoTime() - startTime;
+    }
+  }
+
+  public static void push() {
+
+    if (!running || Thread.currentThread() != thread) {
+      return;
+    }
+
+    if (depth < MAX_DEPTH) {
+      START_BYTES[depth] =
+          allocationBean != null ? allocationBean.getCurrentThreadAllocatedBytes() : 0;
+      START_NANOS[depth] = System.nanoTime();
+    }
+    depth++;
+  }
+
+  public static void pop(Phase phase, String identifier, ItemStack stack) {
+
+    if (!running || Thread.currentThread() != thread || depth <= 0) {
+      return;
+    }
+    depth--;
+
+    if (depth < MAX_DEPTH) {
+      long nanos = System.nanoTime() - START_NANOS[depth];
+      long bytes = allocationBean != null ?
+          allocationBean.getCurrentThreadAllocatedBytes() - START_BYTES[depth] : 0;
+      String item = BuiltInRegistries.ITEM.getKey(stack.getItem()).toString();
+      ENTRIES.computeIfAbsent(new Key(phase, item, identifier), k -> new Entry())
+          .record(nanos, bytes);
+    }
+  }
+
+  /**
+   * Writes all recorded entries to a CSV file in the curios folder of the game directory.
+   *
+   * @param limit The maximum number of report lines to return
+   * @return The path of the written file and the report lines, sorted by total time
+   * @throws IOException If the file could not be written
+   */
+  public static Report dump(int limit) throws IOException {
+    List<Map.Entry<Key, Entry>> sorted = new ArrayList<>(ENTRIES.entrySet());
+    sorted.sort(Comparator.comparingLong(
+        (Map.Entry<Key, Entry> entry) -> entry.getValue().totalNanos).reversed());
+    Path dir = FMLPaths.GAMEDIR.get().resolve(CuriosConstants.MOD_ID);
+    Files.createDirectories(dir);
+    Path file = dir.resolve("profile_" + LocalDateTime.now().format(FILE_FORMAT) + ".csv");
+
+    try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+      writer.write(
+          "phase,item,slot,calls,total_ns,mean_ns,max_ns,p50_ns,p90_ns,p99_ns,allocated_bytes," +
+              "histogram");
+      writer.newLine();
+
+      for (Map.Entry<Key, Entry> mapEntry : sorted) {
+        Key key = mapEntry.getKey();
+        Entry entry = mapEntry.getValue();
+        writer.write(String.join(",", key.phase.getName(), key.item, key.identifier,
+            Long.toString(entry.calls), Long.toString(entry.totalNanos),
+            Long.toString(entry.totalNanos / entry.calls), Long.toString(entry.maxNanos),
+            Long.toString(entry.percentile(0.5D)), Long.toString(entry.percentile(0.9D)),
+            Long.toString(entry.percentile(0.99D)), Long.toString(entry.allocatedBytes),
+            entry.histogram()));
+        writer.newLine();
+      }
+    }
+    long elapsed = running ? System.nanoTime() - startTime : duration;
+    List<String> lines = new ArrayList<>();
+
+    for (int i = 0; i < sorted.size() && i < limit; i++) {
+      Key key = sorted.get(i).getKey();
+      Entry entry = sorted.get(i).getValue();
+      lines.add(String.format("%s [%s] %s: %d calls, %.3f ms total, %d ns mean, %d B allocated",
+          key.item, key.identifier, key.phase.getName(), entry.calls, entry.totalNanos / 1.0E6D,
+          entry.totalNanos / entry.calls, entry.allocatedBytes));
+    }
+    return new Report(file, elapsed, lines);
+  }
+
+  public record Report(Path file, long elapsedNanos, List<String> lines) {
+
+  }
+
+  public enum Phase {
+    CURIO_TICK("curioTick"),
+    INVENTORY_TICK("inventoryTick"),
+    CHANGE_DETECTION("changeDetection"),
+    ATTRIBUTES("attributes"),
+    SYNC("sync");
+
+    final String name;
+
+    Phase(String name) {
+      this.name = name;
+    }
+
+    public String getName() {
+      return this.name;
+    }
+  }
+
+  private record Key(Phase phase, String item, String identifier) {
+
+  }
+
+  private static final class Entry {
+
+    final long[] buckets = new long[BUCKETS];
+    long calls;
+    long totalNanos;
+    long maxNanos;
+    long allocatedBytes;
+
+    void record(long nanos, long bytes) {
+      this.calls++;
+      this.totalNanos += nanos;
+      this.maxNanos = Math.max(this.maxNanos, nanos);
+      this.allocatedBytes += Math.max(0, bytes);
+      this.buckets[Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, nanos)))]++;
+    }
+
+    long percentile(double percentile) {
+      long target = (long) Math.ceil(this.calls * percentile);
+      long count = 0;
+
+      for (int i = 0; i < BUCKETS; i++) {
+        count += this.buckets[i];
+
+        if (count >= target) {
+          return Math.min(this.maxNanos, i == 0 ? 0 : (1L << i) - 1);
+        }
+      }
+      return this.maxNanos;
+    }
+
+    String histogram() {
+      StringBuilder builder = new StringBuilder();
+
+      for (int i = 0; i < BUCKETS; i++) {
+
+        if (this.buckets[i] > 0) {
+
+          if (!builder.isEmpty()) {
+            builder.append(' ');
+          }
+          builder.append("<").append(1L << i).append(':').append(this.buckets[i]);
+        }
+      }
+      return builder.toString();
+    }
+  }
+}
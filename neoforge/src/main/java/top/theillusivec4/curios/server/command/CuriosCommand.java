@@ -28,6 +28,7 @@ import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.Dynamic3CommandExceptionType;
 import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
 import com.mojang.brigadier.suggestion.SuggestionProvider;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -61,12 +62,14 @@ import net.minecraft.world.level.storage.loot.functions.LootItemFunction;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.neoforged.neoforge.network.PacketDistributor;
+import top.theillusivec4.curios.CuriosConstants;
 import top.theillusivec4.curios.api.CuriosApi;
 import top.theillusivec4.curios.api.type.inventory.ICurioStacksHandler;
 import top.theillusivec4.curios.common.data.CuriosEntityManager;
 import top.theillusivec4.curios.common.data.CuriosSlotManager;
 import top.theillusivec4.curios.common.network.server.sync.SPacketSyncCurios;
 import top.theillusivec4.curios.common.slottype.LegacySlotManager;
+import top.theillusivec4.curios.server.CuriosProfiler;
 
 public class CuriosCommand {
 
@@ -310,6 +313,11 @@ public class CuriosCommand {
             context -> resetSlotsForPlayer(context.getSource(),
                 EntityArgument.getPlayer(context, "player")))));
 
+    curiosCommand.then(Commands.literal("profile")
+        .then(Commands.literal("start").executes(context -> startProfiling(context.getSource())))
+        .then(Commands.literal("stop").executes(context -> stopProfiling(context.getSource())))
+        .then(Commands.literal("dump").executes(context -> dumpProfiling(context.getSource()))));
+
     dispatcher.register(curiosCommand);
   }
 
@@ -538,6 +546,50 @@ public class CuriosCommand {
     return Command.SINGLE_SUCCESS;
   }
 
+  private static int startProfiling(CommandSourceStack source) {
+
+    if (CuriosProfiler.isRunning()) {
+      source.sendFailure(Component.translatable("commands.curios.profile.start.failed"));
+      return 0;
+    }
+    CuriosProfiler.start();
+    source.sendSuccess(() -> Component.translatable("commands.curios.profile.start.success"),
+        true);
+    return Command.SINGLE_SUCCESS;
+  }
+
+  private static int stopProfiling(CommandSourceStack source) {
+
+    if (!CuriosProfiler.isRunning()) {
+      source.sendFailure(Component.translatable("commands.curios.profile.stop.failed"));
+      return 0;
+    }
+    CuriosProfiler.stop();
+    source.sendSuccess(() -> Component.translatable("commands.curios.profile.stop.success"),
+        true);
+    return Command.SINGLE_SUCCESS;
+  }
+
+  private static int dumpProfiling(CommandSourceStack source) {
+
+    try {
+      CuriosProfiler.Report report = CuriosProfiler.dump(10);
+      String seconds = String.format("%.2f", report.elapsedNanos() / 1.0E9D);
+      source.sendSuccess(() -> Component.translatable("commands.curios.profile.dump.success",
+          seconds, report.file().toString()), false);
+
+      for (String line : report.lines()) {
+        source.sendSuccess(() -> Component.literal(line), false);
+      }
+    } catch (IOException e) {
+      CuriosConstants.LOG.error("Failed to write curios profile", e);
+      source.sendFailure(
+          Component.translatable("commands.curios.profile.dump.failed", e.getMessage()));
+      return 0;
+    }
+    return Command.SINGLE_SUCCESS;
+  }
+
   private static void clear(ICurioStacksHandler stacksHandler) {
 
     for (int i = 0; i < stacksHandler.getSlots(); i++) {